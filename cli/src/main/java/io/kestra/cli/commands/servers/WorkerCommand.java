@@ -23,6 +23,9 @@ public class WorkerCommand extends AbstractServerCommand {
     @CommandLine.Option(names = {"-t", "--thread"}, description = "the max number of concurrent threads to launch")
     private int thread = Runtime.getRuntime().availableProcessors() * 2;
 
+    @CommandLine.Option(names = {"--max-in-flight"}, description = "the max number of received tasks not ended yet, the worker stops to receive new tasks once reached (default: unbounded)")
+    private Integer maxInFlight;
+
     @SuppressWarnings("unused")
     public static Map<String, Object> propertiesOverrides() {
         return ImmutableMap.of(
@@ -34,7 +37,7 @@ public class WorkerCommand extends AbstractServerCommand {
     public Integer call() throws Exception {
         super.call();
 
-        Worker worker = new Worker(applicationContext, this.thread);
+        Worker worker = new Worker(applicationContext, this.thread, this.maxInFlight);
         applicationContext.registerSingleton(worker);
 
         worker.run();
@@ -20,6 +20,7 @@ import jakarta.inject.Singleton;
 public class MetricRegistry {
     public final static String METRIC_WORKER_RUNNING_COUNT = "worker.running.count";
     public final static String METRIC_WORKER_QUEUED_DURATION = "worker.queued.duration";
+    public final static String METRIC_WORKER_QUEUE_WAIT_DURATION = "worker.queue.wait.duration";
     public final static String METRIC_WORKER_STARTED_COUNT = "worker.started.count";
     public final static String METRIC_WORKER_RETRYED_COUNT = "worker.retryed.count";
     public final static String METRIC_WORKER_TIMEOUT_COUNT = "worker.timeout.count";
@@ -50,17 +51,39 @@ public class MetricRegistry {
     public final static String SCHEDULER_EVALUATE_DURATION = "scheduler.evaluate.duration";
     public final static String SCHEDULER_EXECUTION_RUNNING_DURATION = "scheduler.execution.running.duration";
     public final static String SCHEDULER_EXECUTION_MISSING_DURATION = "scheduler.execution.missing.duration";
+    public final static String SCHEDULER_LOOP_DURATION = "scheduler.loop.duration";
+    public final static String SCHEDULER_QUEUE_SIZE = "scheduler.queue.size";
+    public final static String SCHEDULER_DUE_LATE_DURATION = "scheduler.due.late.duration";
 
     public final static String STREAMS_STATE_COUNT = "stream.state.count";
 
 
     public final static String JDBC_QUERY_DURATION = "jdbc.query.duration";
 
+    public final static String QUEUE_FETCH_SIZE = "queue.fetch.size";
+    public final static String QUEUE_LAG_DURATION = "queue.lag.duration";
+    public final static String QUEUE_SERIALIZED_BYTES = "queue.serialized.bytes";
+
+    public final static String VARIABLE_RENDER_COUNT = "variable.render.count";
+    public final static String VARIABLE_RENDER_DURATION = "variable.render.duration";
+    public final static String VARIABLE_TEMPLATE_CACHE_HIT_COUNT = "variable.template.cache.hit.count";
+    public final static String VARIABLE_TEMPLATE_CACHE_MISS_COUNT = "variable.template.cache.miss.count";
+
+    public final static String LOG_EMITTER_DROPPED_COUNT = "log.emitter.dropped.count";
+    public final static String LOG_EMITTER_DELAYED_COUNT = "log.emitter.delayed.count";
+
+    public final static String SCRIPT_ENVIRONMENT_CACHE_HIT_COUNT = "script.environment.cache.hit.count";
+    public final static String SCRIPT_ENVIRONMENT_CACHE_MISS_COUNT = "script.environment.cache.miss.count";
+    public final static String SCRIPT_ENVIRONMENT_CACHE_BUILD_DURATION = "script.environment.cache.build.duration";
+    public final static String SCRIPT_ENVIRONMENT_CACHE_EVICTED_COUNT = "script.environment.cache.evicted.count";
+
     public final static String TAG_TASK_TYPE = "task_type";
     public final static String TAG_FLOW_ID = "flow_id";
     public final static String TAG_NAMESPACE_ID = "namespace_id";
     public final static String TAG_STATE = "state";
     public final static String TAG_ATTEMPT_COUNT = "attempt_count";
+    public final static String TAG_QUEUE_TYPE = "queue_type";
+    public final static String TAG_CONSUMER_GROUP = "consumer_group";
 
     @Inject
     private MeterRegistry meterRegistry;
@@ -6,7 +6,10 @@ import ch.qos.logback.classic.spi.ThrowableProxy;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Streams;
+import lombok.AccessLevel;
 import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
 import lombok.Value;
 import lombok.With;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +24,7 @@ import io.kestra.core.utils.MapUtils;
 
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.zip.CRC32;
@@ -44,7 +48,6 @@ public class Execution implements DeletedInterface {
     @With
     Integer flowRevision;
 
-    @With
     List<TaskRun> taskRunList;
 
     @With
@@ -65,6 +68,23 @@ public class Execution implements DeletedInterface {
     @Builder.Default
     boolean deleted = false;
 
+    /**
+     * Lookup index on {@link #taskRunList}, lazily built on first lookup and carried over by {@link #withTaskRun(TaskRun)}
+     * and {@link #withTaskRunList(List)}.
+     */
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    transient AtomicReference<TaskRunIndex> taskRunIndex = new AtomicReference<>();
+
+    /**
+     * Memoized {@link #outputs()}, the execution being immutable, it's computed once for this instance.
+     */
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    transient AtomicReference<Map<String, Object>> outputs = new AtomicReference<>();
+
     public Execution withState(State.Type state) {
         return new Execution(
             this.id,
@@ -82,24 +102,48 @@ public class Execution implements DeletedInterface {
     }
 
     public Execution withTaskRun(TaskRun taskRun) throws InternalException {
+        TaskRunIndex index = this.taskRunIndex();
+        int position = this.findTaskRunPosition(index, taskRun.getId());
+        TaskRun current = this.taskRunList.get(position);
+
         ArrayList<TaskRun> newTaskRunList = new ArrayList<>(this.taskRunList);
+        newTaskRunList.set(position, taskRun);
 
-        boolean b = Collections.replaceAll(
+        Execution execution = new Execution(
+            this.id,
+            this.namespace,
+            this.flowId,
+            this.flowRevision,
             newTaskRunList,
-            this.findTaskRunByTaskRunId(taskRun.getId()),
-            taskRun
+            this.inputs,
+            this.variables,
+            this.state,
+            this.parentId,
+            this.trigger,
+            this.deleted
         );
 
-        if (!b) {
-            throw new IllegalStateException("Can't replace taskRun '" + taskRun.getId() + "' on execution'" + this.getId() + "'");
+        // positions are unchanged, the index can be shared as long as the keys are the same
+        if (Objects.equals(current.getTaskId(), taskRun.getTaskId()) &&
+            Objects.equals(current.getParentTaskRunId(), taskRun.getParentTaskRunId())
+        ) {
+            execution.taskRunIndex.set(index);
         }
 
-        return new Execution(
+        return execution;
+    }
+
+    public Execution withTaskRunList(List<TaskRun> taskRunList) {
+        if (this.taskRunList == taskRunList) {
+            return this;
+        }
+
+        Execution execution = new Execution(
             this.id,
             this.namespace,
             this.flowId,
             this.flowRevision,
-            newTaskRunList,
+            taskRunList,
             this.inputs,
             this.variables,
             this.state,
@@ -107,6 +151,56 @@ public class Execution implements DeletedInterface {
             this.trigger,
             this.deleted
         );
+
+        // most of the time, new task runs are appended to the current list, only index the added ones
+        TaskRunIndex index = this.taskRunIndex.get();
+        if (index != null && taskRunList != null && isAppended(this.taskRunList, taskRunList)) {
+            execution.taskRunIndex.set(index.append(taskRunList, this.taskRunList.size()));
+        }
+
+        return execution;
+    }
+
+    private static boolean isAppended(List<TaskRun> current, List<TaskRun> next) {
+        if (current == null || next.size() < current.size()) {
+            return false;
+        }
+
+        for (int i = 0; i < current.size(); i++) {
+            if (current.get(i) != next.get(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private TaskRunIndex taskRunIndex() {
+        TaskRunIndex index = this.taskRunIndex.get();
+
+        if (index == null) {
+            index = TaskRunIndex.of(this.taskRunList);
+            this.taskRunIndex.set(index);
+        }
+
+        return index;
+    }
+
+    private int findTaskRunPosition(TaskRunIndex index, String id) throws InternalException {
+        Integer position = index.getById().get(id);
+
+        if (position == null) {
+            throw new InternalException("Can't find taskrun with taskrunId '" + id + "' on execution '" + this.id + "' " + this.toStringState());
+        }
+
+        return position;
+    }
+
+    private List<TaskRun> taskRuns(List<Integer> positions) {
+        return positions
+            .stream()
+            .map(this.taskRunList::get)
+            .collect(Collectors.toList());
     }
 
     public Execution childExecution(String childExecutionId, List<TaskRun> taskRunList, State state) {
@@ -130,29 +224,17 @@ public class Execution implements DeletedInterface {
             return new ArrayList<>();
         }
 
-        return this.taskRunList
-            .stream()
-            .filter(taskRun -> taskRun.getTaskId().equals(id))
-            .collect(Collectors.toList());
+        return this.taskRuns(this.taskRunIndex().getByTaskId().getOrDefault(id, List.of()));
     }
 
     public TaskRun findTaskRunByTaskRunId(String id) throws InternalException {
-        Optional<TaskRun> find = (this.taskRunList == null ? new ArrayList<TaskRun>() : this.taskRunList)
-            .stream()
-            .filter(taskRun -> taskRun.getId().equals(id))
-            .findFirst();
-
-        if (find.isEmpty()) {
-            throw new InternalException("Can't find taskrun with taskrunId '" + id + "' on execution '" + this.id + "' " + this.toStringState());
-        }
-
-        return find.get();
+        return this.taskRunList.get(this.findTaskRunPosition(this.taskRunIndex(), id));
     }
 
     public TaskRun findTaskRunByTaskIdAndValue(String id, List<String> values) throws InternalException {
-        Optional<TaskRun> find = (this.taskRunList == null ? new ArrayList<TaskRun>() : this.taskRunList)
+        Optional<TaskRun> find = this.findTaskRunsByTaskId(id)
             .stream()
-            .filter(taskRun -> taskRun.getTaskId().equals(id) && findChildsValues(taskRun, true).equals(values))
+            .filter(taskRun -> findChildsValues(taskRun, true).equals(values))
             .findFirst();
 
         if (find.isEmpty()) {
@@ -220,8 +302,20 @@ public class Execution implements DeletedInterface {
             return new ArrayList<>();
         }
 
-        return this
-            .getTaskRunList()
+        TaskRunIndex index = this.taskRunIndex();
+
+        // only look at the children of the parent or at the task runs of the resolved tasks, in the list order
+        List<Integer> positions = parentTaskRun != null ?
+            index.getByParentId().getOrDefault(parentTaskRun.getId(), List.of()) :
+            resolvedTasks
+                .stream()
+                .map(resolvedTask -> resolvedTask.getTask().getId())
+                .distinct()
+                .flatMap(taskId -> index.getByTaskId().getOrDefault(taskId, List.of()).stream())
+                .sorted()
+                .collect(Collectors.toList());
+
+        return this.taskRuns(positions)
             .stream()
             .filter(t -> resolvedTasks
                 .stream()
@@ -401,16 +495,14 @@ public class Execution implements DeletedInterface {
             return true;
         }
 
-        TaskRun current = this.taskRunList
-            .stream()
-            .filter(r -> r.isSame(taskRun))
-            .findFirst()
-            .orElse(null);
+        Integer position = this.taskRunIndex().getById().get(taskRun.getId());
 
-        if (current == null) {
+        if (position == null || !this.taskRunList.get(position).isSame(taskRun)) {
             return true;
         }
 
+        TaskRun current = this.taskRunList.get(position);
+
         // attempts & retry need to be saved
         if (
             (current.getAttempts() == null && taskRun.getAttempts() != null) ||
@@ -551,6 +643,64 @@ public class Execution implements DeletedInterface {
         private List<LogEntry> logs;
     }
 
+    /**
+     * Positions in the task run list by task run id, task id and parent task run id.
+     * Immutable once built, so it can be shared between the copies of an execution having the same positions.
+     */
+    @Getter
+    private static class TaskRunIndex {
+        private final Map<String, Integer> byId;
+        private final Map<String, List<Integer>> byTaskId;
+        private final Map<String, List<Integer>> byParentId;
+
+        private TaskRunIndex(Map<String, Integer> byId, Map<String, List<Integer>> byTaskId, Map<String, List<Integer>> byParentId) {
+            this.byId = byId;
+            this.byTaskId = byTaskId;
+            this.byParentId = byParentId;
+        }
+
+        private static TaskRunIndex of(List<TaskRun> taskRunList) {
+            TaskRunIndex index = new TaskRunIndex(new HashMap<>(), new HashMap<>(), new HashMap<>());
+
+            return taskRunList == null ? index : index.append(taskRunList, 0);
+        }
+
+        /**
+         * @return a new index with the task runs of {@code taskRunList} starting at {@code from}, this one is untouched
+         */
+        private TaskRunIndex append(List<TaskRun> taskRunList, int from) {
+            TaskRunIndex index = new TaskRunIndex(new HashMap<>(this.byId), new HashMap<>(this.byTaskId), new HashMap<>(this.byParentId));
+            Set<List<Integer>> copied = Collections.newSetFromMap(new IdentityHashMap<>());
+
+            for (int i = from; i < taskRunList.size(); i++) {
+                TaskRun taskRun = taskRunList.get(i);
+
+                // keep the first one like a lookup on the list would do
+                index.byId.putIfAbsent(taskRun.getId(), i);
+                add(index.byTaskId, taskRun.getTaskId(), i, copied);
+
+                if (taskRun.getParentTaskRunId() != null) {
+                    add(index.byParentId, taskRun.getParentTaskRunId(), i, copied);
+                }
+            }
+
+            return index;
+        }
+
+        private static void add(Map<String, List<Integer>> map, String key, int position, Set<List<Integer>> copied) {
+            List<Integer> positions = map.get(key);
+
+            // lists are shared with the previous index, copy them once before adding
+            if (positions == null || !copied.contains(positions)) {
+                positions = positions == null ? new ArrayList<>() : new ArrayList<>(positions);
+                map.put(key, positions);
+                copied.add(positions);
+            }
+
+            positions.add(position);
+        }
+    }
+
     /**
      * Transform an exception to {@link ILoggingEvent}
      * @param e the current execption
@@ -573,12 +723,19 @@ public class Execution implements DeletedInterface {
             return ImmutableMap.of();
         }
 
-        Map<String, Object> result = new HashMap<>();
+        Map<String, Object> result = this.outputs.get();
 
-        for (TaskRun current : this.taskRunList) {
-            if (current.getOutputs() != null) {
-                result = MapUtils.merge(result, outputs(current));
+        if (result == null) {
+            result = new HashMap<>();
+
+            for (TaskRun current : this.taskRunList) {
+                if (current.getOutputs() != null) {
+                    result = MapUtils.merge(result, outputs(current));
+                }
             }
+
+            result = Collections.unmodifiableMap(result);
+            this.outputs.set(result);
         }
 
         return result;
@@ -661,21 +818,14 @@ public class Execution implements DeletedInterface {
 
         ArrayList<TaskRun> result = new ArrayList<>();
 
-        boolean ended = false;
+        Map<String, Integer> byId = this.taskRunIndex().getById();
+        Integer position = byId.get(taskRun.getParentTaskRunId());
 
-        while (!ended) {
-            final TaskRun finalTaskRun = taskRun;
-            Optional<TaskRun> find = this.taskRunList
-                .stream()
-                .filter(t -> t.getId().equals(finalTaskRun.getParentTaskRunId()))
-                .findFirst();
+        while (position != null) {
+            taskRun = this.taskRunList.get(position);
+            result.add(taskRun);
 
-            if (find.isPresent()) {
-                result.add(find.get());
-                taskRun = find.get();
-            } else {
-                ended = true;
-            }
+            position = taskRun.getParentTaskRunId() == null ? null : byId.get(taskRun.getParentTaskRunId());
         }
 
         Collections.reverse(result);
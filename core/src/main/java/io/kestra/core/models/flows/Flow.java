@@ -36,6 +36,7 @@ import javax.validation.constraints.*;
 @Introspected
 @ToString
 @EqualsAndHashCode
+@io.kestra.core.validations.FlowExpressions
 public class Flow implements DeletedInterface {
     private static final ObjectMapper jsonMapper = JacksonMapper.ofJson().copy()
         .setAnnotationIntrospector(new JacksonAnnotationIntrospector() {
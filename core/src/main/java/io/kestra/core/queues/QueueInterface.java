@@ -1,11 +1,18 @@
 package io.kestra.core.queues;
 
 import java.io.Closeable;
+import java.util.List;
 import java.util.function.Consumer;
 
 public interface QueueInterface<T> extends Closeable {
     void emit(T message) throws QueueException;
 
+    default void emitBatch(List<T> messages) throws QueueException {
+        for (T message : messages) {
+            this.emit(message);
+        }
+    }
+
     void delete(T message) throws QueueException;
 
     Runnable receive(Consumer<T> consumer);
@@ -4,9 +4,20 @@ import io.kestra.core.runners.WorkerTask;
 
 import java.io.Closeable;
 import java.util.function.Consumer;
+import java.util.function.IntSupplier;
 
 public interface WorkerTaskQueueInterface extends Closeable {
     Runnable receive(Class<?> consumerGroup, Consumer<WorkerTask> consumer);
 
+    /**
+     * Receive the worker tasks without fetching more than the worker can accept: the tasks fetched are claimed by
+     * this worker, so they must not be fetched to only wait in memory.
+     *
+     * @param available the count of worker tasks that can be received now, nothing is fetched while it's 0
+     */
+    default Runnable receive(Class<?> consumerGroup, Consumer<WorkerTask> consumer, IntSupplier available) {
+        return this.receive(consumerGroup, consumer);
+    }
+
     void pause();
 }
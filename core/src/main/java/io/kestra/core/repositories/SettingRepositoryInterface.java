@@ -14,4 +14,19 @@ public interface SettingRepositoryInterface {
     Setting save(Setting setting) throws ConstraintViolationException;
 
     Setting delete(Setting setting);
+
+    /**
+     * Save a technical setting, saved too often to be notified as a user change: no
+     * {@link io.kestra.core.events.CrudEvent} is published by the implementations that override it.
+     */
+    default Setting saveInternal(Setting setting) throws ConstraintViolationException {
+        return this.save(setting);
+    }
+
+    /**
+     * Delete a technical setting, see {@link #saveInternal(Setting)}.
+     */
+    default Setting deleteInternal(Setting setting) {
+        return this.delete(setting);
+    }
 }
@@ -0,0 +1,175 @@
+package io.kestra.core.runners;
+
+import io.kestra.core.metrics.MetricRegistry;
+import io.kestra.core.models.executions.LogEntry;
+import io.kestra.core.queues.QueueFactoryInterface;
+import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.utils.ExecutorsUtils;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.event.Level;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PreDestroy;
+
+/**
+ * Ship the logs of the {@link RunContextLogger} asynchronously: the task threads only push the {@link LogEntry} on
+ * a bounded buffer and a dedicated thread emits them by batch, when the batch is full or after the flush interval.
+ * When the buffer is full, the {@link Overflow} policy decides whether the task thread waits or the line is dropped.
+ */
+@Singleton
+@Requires(property = "kestra.logs.async.enabled", value = "true")
+@Slf4j
+public class AsyncLogEmitter {
+    private final QueueInterface<LogEntry> logQueue;
+
+    private final MetricRegistry metricRegistry;
+
+    private final LogEmitterConfiguration configuration;
+
+    private final BlockingQueue<LogEntry> buffer;
+
+    private final ExecutorService executorService;
+
+    private final AtomicLong sampled = new AtomicLong();
+
+    private volatile boolean isClosed = false;
+
+    @Inject
+    public AsyncLogEmitter(
+        @Named(QueueFactoryInterface.WORKERTASKLOG_NAMED) QueueInterface<LogEntry> logQueue,
+        MetricRegistry metricRegistry,
+        ExecutorsUtils executorsUtils,
+        LogEmitterConfiguration configuration
+    ) {
+        this.logQueue = logQueue;
+        this.metricRegistry = metricRegistry;
+        this.configuration = configuration;
+        this.buffer = new ArrayBlockingQueue<>(configuration.getBufferSize());
+
+        this.executorService = executorsUtils.singleThreadExecutor("log-emitter");
+        this.executorService.execute(this::run);
+    }
+
+    public void emit(LogEntry logEntry) {
+        if (this.buffer.offer(logEntry)) {
+            return;
+        }
+
+        // buffer is full
+        if (this.isDroppable(logEntry)) {
+            metricRegistry
+                .counter(MetricRegistry.LOG_EMITTER_DROPPED_COUNT, "level", logEntry.getLevel().name())
+                .increment();
+
+            return;
+        }
+
+        metricRegistry
+            .counter(MetricRegistry.LOG_EMITTER_DELAYED_COUNT, "level", logEntry.getLevel().name())
+            .increment();
+
+        try {
+            this.buffer.put(logEntry);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean isDroppable(LogEntry logEntry) {
+        switch (this.configuration.getOverflow()) {
+            case DROP_DEBUG:
+                return logEntry.getLevel() == Level.DEBUG || logEntry.getLevel() == Level.TRACE;
+            case SAMPLE:
+                // warning & errors are always kept, others are kept one out of sample rate
+                return logEntry.getLevel() != Level.WARN && logEntry.getLevel() != Level.ERROR &&
+                    this.sampled.incrementAndGet() % this.configuration.getSampleRate() != 0;
+            default:
+                return false;
+        }
+    }
+
+    private void run() {
+        List<LogEntry> batch = new ArrayList<>(this.configuration.getBatchSize());
+
+        while (!this.isClosed || !this.buffer.isEmpty()) {
+            try {
+                LogEntry first = this.buffer.poll(this.configuration.getFlushInterval().toMillis(), TimeUnit.MILLISECONDS);
+
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+
+                // wait for the batch to fill up, at most the flush interval
+                long deadline = System.nanoTime() + this.configuration.getFlushInterval().toNanos();
+                while (batch.size() < this.configuration.getBatchSize()) {
+                    this.buffer.drainTo(batch, this.configuration.getBatchSize() - batch.size());
+
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= this.configuration.getBatchSize() || remaining <= 0 || this.isClosed) {
+                        break;
+                    }
+
+                    LogEntry next = this.buffer.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next != null) {
+                        batch.add(next);
+                    }
+                }
+
+                this.logQueue.emitBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                this.isClosed = true;
+            } catch (Exception e) {
+                log.warn("Unable to emit {} logs", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        // the emitter thread drains the buffer before ending
+        this.isClosed = true;
+        this.executorService.shutdown();
+
+        try {
+            if (!this.executorService.awaitTermination(this.configuration.getFlushInterval().toMillis() * 10, TimeUnit.MILLISECONDS)) {
+                log.warn("Unable to emit {} logs before closing", this.buffer.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public enum Overflow {
+        BLOCK,
+        DROP_DEBUG,
+        SAMPLE
+    }
+
+    @Getter
+    @ConfigurationProperties("kestra.logs.async")
+    public static class LogEmitterConfiguration {
+        Integer bufferSize = 10000;
+        Integer batchSize = 500;
+        Duration flushInterval = Duration.ofMillis(500);
+        Overflow overflow = Overflow.BLOCK;
+        Integer sampleRate = 10;
+    }
+}
@@ -0,0 +1,53 @@
+package io.kestra.core.runners;
+
+import io.kestra.core.utils.ExecutorsUtils;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import javax.annotation.PreDestroy;
+
+/**
+ * The pool used by the tasks to copy files in parallel, shared by all the tasks running on this server and bounded
+ * by the processors count. It's closed with the application context.
+ */
+@Singleton
+public class FileCopyExecutor {
+    private final ExecutorService executorService;
+
+    @Inject
+    public FileCopyExecutor(ExecutorsUtils executorsUtils) {
+        this.executorService = executorsUtils.maxCachedThreadPool(
+            Runtime.getRuntime().availableProcessors(),
+            "file-copy"
+        );
+    }
+
+    /**
+     * Run all the copies and wait for them, the first failure is thrown.
+     */
+    public <T> List<T> invokeAll(Collection<Callable<T>> copies) throws Exception {
+        List<T> results = new ArrayList<>();
+
+        try {
+            for (Future<T> future : this.executorService.invokeAll(copies)) {
+                results.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+
+        return results;
+    }
+
+    @PreDestroy
+    public void close() {
+        this.executorService.shutdownNow();
+    }
+}
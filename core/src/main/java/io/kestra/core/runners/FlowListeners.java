@@ -13,7 +13,9 @@ import io.kestra.core.serializers.JacksonMapper;
 import io.kestra.core.services.FlowListenersInterface;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -31,7 +33,7 @@ public class FlowListeners implements FlowListenersInterface {
 
     private Boolean isStarted = false;
     private final QueueInterface<Flow> flowQueue;
-    private final List<Flow> flows;
+    private final Map<String, Flow> flows;
     private final List<Consumer<List<Flow>>> consumers = new ArrayList<>();
 
     private final List<BiConsumer<Flow, Flow>> consumersEach = new ArrayList<>();
@@ -45,7 +47,7 @@ public class FlowListeners implements FlowListenersInterface {
         this.flows = flowRepository.findAll()
             .stream()
             .filter(flow -> !(flow instanceof FlowSource))
-            .collect(Collectors.toList());
+            .collect(Collectors.toMap(Flow::uidWithoutRevision, flow -> flow, (a, b) -> b, LinkedHashMap::new));
     }
 
     @Override
@@ -86,15 +88,14 @@ public class FlowListeners implements FlowListenersInterface {
     }
 
     private Optional<Flow> previous(Flow flow) {
-        return flows
-            .stream()
-            .filter(r -> r.getNamespace().equals(flow.getNamespace()) && r.getId().equals(flow.getId()))
-            .findFirst();
+        synchronized (this) {
+            return Optional.ofNullable(flows.get(flow.uidWithoutRevision()));
+        }
     }
 
     private boolean remove(Flow flow) {
         synchronized (this) {
-            boolean remove = flows.removeIf(r -> r.getNamespace().equals(flow.getNamespace()) && r.getId().equals(flow.getId()));
+            boolean remove = flows.remove(flow.uidWithoutRevision()) != null;
             if (!remove && flow.isDeleted()) {
                 log.warn("Can't remove flow {}.{}", flow.getNamespace(), flow.getId());
             }
@@ -105,16 +106,15 @@ public class FlowListeners implements FlowListenersInterface {
 
     private synchronized void upsert(Flow flow) {
         synchronized (this) {
-            this.remove(flow);
-
-            this.flows.add(flow);
+            // keep the order of the flows
+            this.flows.put(flow.uidWithoutRevision(), flow);
         }
     }
 
     private void notifyConsumers() {
         synchronized (this) {
             this.consumers
-                .forEach(consumer -> consumer.accept(new ArrayList<>(this.flows)));
+                .forEach(consumer -> consumer.accept(new ArrayList<>(this.flows.values())));
         }
     }
 
@@ -140,10 +140,20 @@ public class FlowListeners implements FlowListenersInterface {
         }
     }
 
+    @Override
+    public void listen(Consumer<List<Flow>> snapshot, BiConsumer<Flow, Flow> changes) {
+        synchronized (this) {
+            consumersEach.add(changes);
+            snapshot.accept(this.flows());
+        }
+    }
+
     @SneakyThrows
     @Override
     public List<Flow> flows() {
         // we forced a deep clone to avoid concurrency where instance are changed during iteration (especially scheduler).
-        return MAPPER.readValue(MAPPER.writeValueAsString(this.flows), TYPE_REFERENCE);
+        synchronized (this) {
+            return MAPPER.readValue(MAPPER.writeValueAsString(this.flows.values()), TYPE_REFERENCE);
+        }
     }
 }
@@ -3,6 +3,8 @@ package io.kestra.core.runners;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.executions.NextTaskRun;
@@ -12,6 +14,7 @@ import io.kestra.core.models.tasks.ResolvedTask;
 import io.kestra.core.models.tasks.Task;
 import io.kestra.core.serializers.JacksonMapper;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -193,7 +196,43 @@ public class FlowableUtils {
     private final static TypeReference<List<Object>> TYPE_REFERENCE = new TypeReference<>() {};
     private final static ObjectMapper MAPPER = JacksonMapper.ofJson();
 
+    // resolved child tasks of each task runs, bounded by the total count of resolved tasks
+    private final static Cache<String, List<ResolvedTask>> EACH_TASKS_CACHE = CacheBuilder.newBuilder()
+        .maximumWeight(1_000_000)
+        .<String, List<ResolvedTask>>weigher((key, value) -> Math.max(1, value.size()))
+        .expireAfterAccess(Duration.ofHours(1))
+        .build();
+
+    /**
+     * Resolve the child tasks of an each task, the rendered values are rendered &amp; parsed only once per parent
+     * task run and then served from a cache until {@link #evictEachTasks(TaskRun)} is called.
+     */
     public static List<ResolvedTask> resolveEachTasks(RunContext runContext, TaskRun parentTaskRun, List<Task> tasks, String value) throws IllegalVariableEvaluationException {
+        String key = eachTasksKey(parentTaskRun);
+        List<ResolvedTask> cached = EACH_TASKS_CACHE.getIfPresent(key);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        List<ResolvedTask> result = Collections.unmodifiableList(renderEachTasks(runContext, parentTaskRun, tasks, value));
+        EACH_TASKS_CACHE.put(key, result);
+
+        return result;
+    }
+
+    /**
+     * Remove the cached child tasks of an each task, must be called when the parent task run is terminated.
+     */
+    public static void evictEachTasks(TaskRun parentTaskRun) {
+        EACH_TASKS_CACHE.invalidate(eachTasksKey(parentTaskRun));
+    }
+
+    private static String eachTasksKey(TaskRun parentTaskRun) {
+        return parentTaskRun.getExecutionId() + "_" + parentTaskRun.getId();
+    }
+
+    private static List<ResolvedTask> renderEachTasks(RunContext runContext, TaskRun parentTaskRun, List<Task> tasks, String value) throws IllegalVariableEvaluationException {
         String renderValue = runContext.render(value);
 
         List<Object> values;
@@ -0,0 +1,106 @@
+package io.kestra.core.runners;
+
+import com.google.common.base.Suppliers;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * An immutable variables map where some values are only computed on their first access and then memoized.
+ * A lazy value that resolves to {@code null} is considered as a missing key.
+ * Copying a {@link LazyVariables} through {@link Builder#putAll(Map)} keeps the values that are not yet computed lazy.
+ */
+public class LazyVariables extends AbstractMap<String, Object> {
+    private final Map<String, Object> values;
+
+    private LazyVariables(Map<String, Object> values) {
+        this.values = values;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public Object get(Object key) {
+        return resolve(this.values.get(key));
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        Object value = this.values.get(key);
+
+        if (value instanceof Lazy) {
+            return ((Lazy) value).get() != null;
+        }
+
+        return this.values.containsKey(key);
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        Map<String, Object> resolved = new LinkedHashMap<>();
+
+        this.values.forEach((key, value) -> {
+            if (value instanceof Lazy) {
+                Object current = ((Lazy) value).get();
+                if (current != null) {
+                    resolved.put(key, current);
+                }
+            } else {
+                resolved.put(key, value);
+            }
+        });
+
+        return Collections.unmodifiableMap(resolved).entrySet();
+    }
+
+    private static Object resolve(Object value) {
+        return value instanceof Lazy ? ((Lazy) value).get() : value;
+    }
+
+    private static class Lazy {
+        private final Supplier<Object> supplier;
+
+        private Lazy(Supplier<?> supplier) {
+            this.supplier = Suppliers.memoize(supplier::get);
+        }
+
+        private Object get() {
+            return this.supplier.get();
+        }
+    }
+
+    public static class Builder {
+        private final Map<String, Object> values = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder put(String key, Object value) {
+            this.values.put(key, value);
+
+            return this;
+        }
+
+        public Builder putLazy(String key, Supplier<?> supplier) {
+            this.values.put(key, new Lazy(supplier));
+
+            return this;
+        }
+
+        public Builder putAll(Map<String, Object> map) {
+            if (map instanceof LazyVariables) {
+                this.values.putAll(((LazyVariables) map).values);
+            } else {
+                this.values.putAll(map);
+            }
+
+            return this;
+        }
+
+        public LazyVariables build() {
+            return new LazyVariables(new LinkedHashMap<>(this.values));
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.CaseFormat;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
@@ -31,8 +32,8 @@ import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 @NoArgsConstructor
 public class RunContext {
@@ -133,36 +134,27 @@ public class RunContext {
         }
     }
 
-    @SuppressWarnings("unchecked")
     private void initLogger(TaskRun taskRun) {
-        this.runContextLogger = new RunContextLogger(
-            applicationContext.findBean(
-                QueueInterface.class,
-                Qualifiers.byName(QueueFactoryInterface.WORKERTASKLOG_NAMED)
-            ).orElseThrow(),
-            LogEntry.of(taskRun)
-        );
+        this.runContextLogger = this.runContextLogger(LogEntry.of(taskRun));
     }
 
-    @SuppressWarnings("unchecked")
     private void initLogger(Execution execution) {
-        this.runContextLogger = new RunContextLogger(
-            applicationContext.findBean(
-                QueueInterface.class,
-                Qualifiers.byName(QueueFactoryInterface.WORKERTASKLOG_NAMED)
-            ).orElseThrow(),
-            LogEntry.of(execution)
-        );
+        this.runContextLogger = this.runContextLogger(LogEntry.of(execution));
     }
 
-    @SuppressWarnings("unchecked")
     private void initLogger(Flow flow, AbstractTrigger trigger) {
-        this.runContextLogger = new RunContextLogger(
+        this.runContextLogger = this.runContextLogger(LogEntry.of(flow, trigger));
+    }
+
+    @SuppressWarnings("unchecked")
+    private RunContextLogger runContextLogger(LogEntry logEntry) {
+        return new RunContextLogger(
             applicationContext.findBean(
                 QueueInterface.class,
                 Qualifiers.byName(QueueFactoryInterface.WORKERTASKLOG_NAMED)
             ).orElseThrow(),
-            LogEntry.of(flow, trigger)
+            applicationContext.findBean(AsyncLogEmitter.class).orElse(null),
+            logEntry
         );
     }
 
@@ -181,14 +173,10 @@ public class RunContext {
     }
 
     protected Map<String, Object> variables(Flow flow, Task task, Execution execution, TaskRun taskRun, AbstractTrigger trigger) {
-        ImmutableMap.Builder<String, Object> builder = ImmutableMap.<String, Object>builder()
-            .put("envs", envVariables());
-
-        if (applicationContext.getProperty("kestra.variables.globals", Map.class).isPresent()) {
-            builder.put("globals", applicationContext.getProperty("kestra.variables.globals", Map.class).get());
-        } else {
-            builder.put("globals", Map.of());
-        }
+        // the costly variables are only computed when an expression uses them
+        LazyVariables.Builder builder = LazyVariables.builder()
+            .putLazy("envs", this::envVariables)
+            .putLazy("globals", this::globalVariables);
 
         if (flow != null) {
             if (flow.getVariables() != null) {
@@ -205,12 +193,10 @@ public class RunContext {
         }
 
         if (taskRun != null && execution != null) {
-            List<Map<String, Object>> parents = execution.parents(taskRun);
+            Supplier<List<Map<String, Object>>> parents = Suppliers.memoize(() -> execution.parents(taskRun));
 
-            builder.put("parents", parents);
-            if (parents.size() > 0) {
-                builder.put("parent", parents.get(0));
-            }
+            builder.putLazy("parents", parents);
+            builder.putLazy("parent", () -> parents.get().size() > 0 ? parents.get().get(0) : null);
         }
 
         if (flow != null) {
@@ -230,7 +216,7 @@ public class RunContext {
                 ));
 
             if (execution.getTaskRunList() != null) {
-                builder.put("outputs", execution.outputs());
+                builder.putLazy("outputs", execution::outputs);
             }
 
             if (execution.getInputs() != null) {
@@ -257,6 +243,11 @@ public class RunContext {
         return builder.build();
     }
 
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> globalVariables() {
+        return applicationContext.getProperty("kestra.variables.globals", Map.class).orElse(Map.of());
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     private Map<String, String> envVariables() {
         Map<String, String> result = new HashMap<>(System.getenv());
@@ -299,8 +290,6 @@ public class RunContext {
 
     @SuppressWarnings("unchecked")
     public RunContext updateVariables(WorkerTaskResult workerTaskResult, TaskRun parent) {
-        Map<String, Object> variables = new HashMap<>(this.variables);
-
         HashMap<String, Object> outputs = this.variables.containsKey("outputs") ?
             new HashMap<>((Map<String, Object>) this.variables.get("outputs")) :
             new HashMap<>();
@@ -309,8 +298,8 @@ public class RunContext {
         Map<String, Object> result = new HashMap<>();
         Map<String, Object> current = result;
 
-        if (variables.containsKey("parents")) {
-            for (Map<String, Map<String, String>> t : Lists.reverse((List<Map<String, Map<String, String>>>) variables.get("parents"))) {
+        if (this.variables.containsKey("parents")) {
+            for (Map<String, Map<String, String>> t : Lists.reverse((List<Map<String, Map<String, String>>>) this.variables.get("parents"))) {
                 if (t.get("taskrun") != null && t.get("taskrun").get("value") != null) {
                     HashMap<String, Object> item = new HashMap<>();
                     current.put(t.get("taskrun").get("value"), item);
@@ -331,10 +320,11 @@ public class RunContext {
 
         outputs.put(workerTaskResult.getTaskRun().getTaskId(), result);
 
-        variables.remove("outputs");
-        variables.put("outputs", outputs);
-
-        return this.clone(variables);
+        return this.clone(LazyVariables.builder()
+            .putAll(this.variables)
+            .put("outputs", outputs)
+            .build()
+        );
     }
 
     private RunContext clone(Map<String, Object> variables) {
@@ -359,15 +349,11 @@ public class RunContext {
         this.initBean(applicationContext);
         this.initLogger(workerTask.getTaskRun());
 
-        Map<String, Object> clone = new HashMap<>(this.variables);
-
-        clone.remove("taskrun");
-        clone.put("taskrun", this.variables(workerTask.getTaskRun()));
-
-        clone.remove("task");
-        clone.put("task", this.variables(workerTask.getTask()));
-
-        this.variables = ImmutableMap.copyOf(clone);
+        this.variables = LazyVariables.builder()
+            .putAll(this.variables)
+            .put("taskrun", this.variables(workerTask.getTaskRun()))
+            .put("task", this.variables(workerTask.getTask()))
+            .build();
         this.storageExecutionPrefix = URI.create("/" + this.storageInterface.executionPrefix(workerTask.getTaskRun()));
 
         return this;
@@ -398,13 +384,10 @@ public class RunContext {
     }
 
     private Map<String, Object> mergeVariables(Map<String, Object> variables) {
-        return Stream
-            .concat(this.variables.entrySet().stream(), variables.entrySet().stream())
-            .collect(Collectors.toMap(
-                Map.Entry::getKey,
-                Map.Entry::getValue,
-                (o, o2) -> o2
-            ));
+        return LazyVariables.builder()
+            .putAll(this.variables)
+            .putAll(variables)
+            .build();
     }
 
     public org.slf4j.Logger logger() {
@@ -419,6 +402,26 @@ public class RunContext {
         throw new IllegalArgumentException("Invalid scheme for uri '" + uri + "'");
     }
 
+    /**
+     * Concat some files of the storage on a new file of the task outputs, without reading them when the storage allows it.
+     *
+     * @param uris the {@code kestra://} uris of the files to concat
+     * @param name the file name
+     * @return the uri of the composed file
+     * @throws IOException If the files can't be read
+     */
+    public URI compose(List<URI> uris, String name) throws IOException {
+        for (URI uri : uris) {
+            if (!uri.getScheme().equals("kestra")) {
+                throw new IllegalArgumentException("Invalid scheme for uri '" + uri + "'");
+            }
+        }
+
+        URI prefix = URI.create(this.storageOutputPrefix.toString());
+
+        return this.storageInterface.compose(uris, prefix.resolve(prefix.getPath() + "/" + name));
+    }
+
     /**
      * Put the temporary file on storage and delete it after.
      *
@@ -466,10 +469,13 @@ public class RunContext {
     }
 
     private URI putTempFile(File file, String prefix, String name) throws IOException {
-        URI put = this.putTempFile(new FileInputStream(file), prefix, (name != null ? name : file.getName()));
+        URI uri = URI.create(prefix);
+        URI resolve = uri.resolve(uri.getPath() + "/" + (name != null ? name : file.getName()));
+
+        // the storage move the file, no need to copy it when possible
+        URI put = this.storageInterface.put(resolve, file.toPath());
 
-        boolean delete = file.delete();
-        if (!delete) {
+        if (file.exists()) {
             runContextLogger.logger().warn("Failed to delete temporary file");
         }
 
@@ -12,12 +12,14 @@ import com.google.common.base.Splitter;
 import com.google.common.base.Throwables;
 import io.kestra.core.models.executions.LogEntry;
 import io.kestra.core.queues.QueueInterface;
+import io.micronaut.core.annotation.Nullable;
 import org.slf4j.LoggerFactory;
 
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 public class RunContextLogger {
@@ -25,6 +27,7 @@ public class RunContextLogger {
     private final String loggerName;
     private Logger logger;
     private QueueInterface<LogEntry> logQueue;
+    private AsyncLogEmitter asyncLogEmitter;
     private LogEntry logEntry;
 
     @VisibleForTesting
@@ -42,6 +45,11 @@ public class RunContextLogger {
         this.logEntry = logEntry;
     }
 
+    public RunContextLogger(QueueInterface<LogEntry> logQueue, @Nullable AsyncLogEmitter asyncLogEmitter, LogEntry logEntry) {
+        this(logQueue, logEntry);
+        this.asyncLogEmitter = asyncLogEmitter;
+    }
+
     private static List<LogEntry> logEntry(ILoggingEvent event, String message, org.slf4j.event.Level level, LogEntry logEntry) {
         Iterable<String> split;
 
@@ -125,7 +133,9 @@ public class RunContextLogger {
 
             // unit test don't need the logqueue
             if (this.logQueue != null && this.logEntry != null) {
-                ContextAppender contextAppender = new ContextAppender(this.logQueue, this.logEntry);
+                ContextAppender contextAppender = this.asyncLogEmitter != null ?
+                    new ContextAppender(this.asyncLogEmitter, this.logEntry) :
+                    new ContextAppender(this.logQueue, this.logEntry);
                 contextAppender.setContext(loggerContext);
                 contextAppender.start();
 
@@ -145,18 +155,23 @@ public class RunContextLogger {
     }
 
     public static class ContextAppender extends AppenderBase<ILoggingEvent> {
-        private final QueueInterface<LogEntry> logQueue;
+        private final Consumer<LogEntry> emitter;
         private final LogEntry logEntry;
 
         public ContextAppender(QueueInterface<LogEntry> logQueue, LogEntry logEntry) {
-            this.logQueue = logQueue;
+            this.emitter = logQueue::emit;
+            this.logEntry = logEntry;
+        }
+
+        public ContextAppender(AsyncLogEmitter asyncLogEmitter, LogEntry logEntry) {
+            this.emitter = asyncLogEmitter::emit;
             this.logEntry = logEntry;
         }
 
         @Override
         protected void append(ILoggingEvent e) {
             logEntries(e, logEntry)
-                .forEach(logQueue::emit);
+                .forEach(emitter);
         }
     }
 
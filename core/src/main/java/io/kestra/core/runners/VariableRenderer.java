@@ -5,24 +5,32 @@ import com.github.jknack.handlebars.Handlebars;
 import com.github.jknack.handlebars.HandlebarsException;
 import com.github.jknack.handlebars.Template;
 import com.github.jknack.handlebars.helper.*;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.mitchellbosecke.pebble.PebbleEngine;
 import com.mitchellbosecke.pebble.error.AttributeNotFoundException;
 import com.mitchellbosecke.pebble.error.PebbleException;
 import com.mitchellbosecke.pebble.extension.AbstractExtension;
 import com.mitchellbosecke.pebble.template.PebbleTemplate;
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.metrics.MetricRegistry;
 import io.kestra.core.runners.handlebars.VariableRendererPlugins;
 import io.kestra.core.runners.handlebars.helpers.*;
 import io.kestra.core.runners.pebble.ExtensionCustomizer;
 import io.kestra.core.runners.pebble.JsonWriter;
 import io.kestra.core.runners.pebble.PebbleLruCache;
+import io.kestra.core.utils.JqUtils;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.core.convert.format.ReadableBytesTypeConverter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 
 import java.io.IOException;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 import io.micronaut.core.annotation.Nullable;
 import jakarta.inject.Inject;
@@ -35,11 +43,24 @@ public class VariableRenderer {
     private final PebbleEngine pebbleEngine;
     private final VariableConfiguration variableConfiguration;
 
+    private Cache<String, Template> handlebarsCache;
+    private final Counter literalCount;
+    private final Counter templateCount;
+    private final Counter handlebarsHitCount;
+    private final Counter handlebarsMissCount;
+    private final Timer renderDuration;
+
     @SuppressWarnings("unchecked")
     @Inject
-    public VariableRenderer(ApplicationContext applicationContext, @Nullable VariableConfiguration variableConfiguration) {
+    public VariableRenderer(ApplicationContext applicationContext, MetricRegistry metricRegistry, @Nullable VariableConfiguration variableConfiguration) {
         this.variableConfiguration = variableConfiguration != null ? variableConfiguration : new VariableConfiguration();
 
+        this.literalCount = metricRegistry.counter(MetricRegistry.VARIABLE_RENDER_COUNT, "type", "literal");
+        this.templateCount = metricRegistry.counter(MetricRegistry.VARIABLE_RENDER_COUNT, "type", "template");
+        this.handlebarsHitCount = metricRegistry.counter(MetricRegistry.VARIABLE_TEMPLATE_CACHE_HIT_COUNT, "engine", "handlebars");
+        this.handlebarsMissCount = metricRegistry.counter(MetricRegistry.VARIABLE_TEMPLATE_CACHE_MISS_COUNT, "engine", "handlebars");
+        this.renderDuration = metricRegistry.timer(MetricRegistry.VARIABLE_RENDER_DURATION);
+
         if (!this.variableConfiguration.getDisableHandlebars()) {
             this.handlebars = new Handlebars()
                 .with(EscapingStrategy.NOOP)
@@ -68,6 +89,12 @@ public class VariableRenderer {
                         variableRendererPlugins.helper()
                     );
                 });
+
+            if (this.variableConfiguration.getCacheEnabled()) {
+                this.handlebarsCache = CacheBuilder.newBuilder()
+                    .maximumSize(this.variableConfiguration.getCacheSize())
+                    .build();
+            }
         }
 
         PebbleEngine.Builder pebbleBuilder = new PebbleEngine.Builder()
@@ -82,9 +109,22 @@ public class VariableRenderer {
             .forEach(pebbleBuilder::extension);
 
         if (this.variableConfiguration.getCacheEnabled()) {
-            pebbleBuilder.templateCache(new PebbleLruCache(this.variableConfiguration.getCacheSize()));
+            long cacheMaxMemory = new ReadableBytesTypeConverter()
+                .convert(this.variableConfiguration.getCacheMaxMemory(), Number.class)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid size with value '" + this.variableConfiguration.getCacheMaxMemory() + "'"))
+                .longValue();
+
+            pebbleBuilder.templateCache(new PebbleLruCache(cacheMaxMemory, metricRegistry));
         }
 
+        JqUtils.configureInputsCache(this.variableConfiguration.getCacheEnabled() ?
+            new ReadableBytesTypeConverter()
+                .convert(this.variableConfiguration.getJqCacheMaxMemory(), Number.class)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid size with value '" + this.variableConfiguration.getJqCacheMaxMemory() + "'"))
+                .longValue() :
+            0
+        );
+
         pebbleEngine = pebbleBuilder.build();
     }
 
@@ -93,43 +133,127 @@ public class VariableRenderer {
             return null;
         }
 
-        boolean isSame = false;
-        String currentTemplate = inline;
-        String current = "";
-        PebbleTemplate compiledTemplate;
-        while (!isSame) {
-            try {
-                compiledTemplate = pebbleEngine.getLiteralTemplate(currentTemplate);
-
-                Writer writer = new JsonWriter(new StringWriter());
-                compiledTemplate.evaluate(writer, variables);
-                current = writer.toString();
-            } catch (IOException | PebbleException e) {
-                if (this.variableConfiguration.disableHandlebars) {
-                    if (e instanceof PebbleException) {
-                        throw properPebbleException((PebbleException) e);
-                    }
-
-                    throw new IllegalVariableEvaluationException(e);
+        // most of the properties are literals, rendering them would only return the same string
+        if (!isTemplate(inline)) {
+            literalCount.increment();
+            return inline;
+        }
+
+        templateCount.increment();
+        long start = System.nanoTime();
+
+        try {
+            String current = inline;
+
+            // the output is rendered again only if it's still a template, a literal is already a fixed point
+            while (true) {
+                String rendered = this.renderOnce(current, variables);
+
+                if (rendered.equals(current) || !isTemplate(rendered)) {
+                    return rendered;
                 }
 
-                try {
-                    Template  template = handlebars.compileInline(currentTemplate);
-                    current = template.apply(variables);
-                } catch (HandlebarsException | IOException hbE) {
-                    throw new IllegalVariableEvaluationException(
-                        "Pebble evaluation failed with '" + e.getMessage() +  "' " +
-                        "and Handlebars fallback failed also  with '" + hbE.getMessage() + "'" ,
-                        e
-                    );
+                current = rendered;
+            }
+        } finally {
+            renderDuration.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Parse the template without rendering it, the compiled template is then served from the cache for the next renders.
+     *
+     * @throws IllegalVariableEvaluationException if the template is invalid
+     */
+    public void compile(String inline) throws IllegalVariableEvaluationException {
+        if (inline == null || !isTemplate(inline)) {
+            return;
+        }
+
+        try {
+            pebbleEngine.getLiteralTemplate(inline);
+        } catch (PebbleException e) {
+            if (this.variableConfiguration.disableHandlebars) {
+                throw properPebbleException(e);
+            }
+
+            try {
+                this.handlebarsTemplate(inline);
+            } catch (HandlebarsException | IOException hbE) {
+                throw new IllegalVariableEvaluationException(
+                    "Pebble compilation failed with '" + e.getMessage() +  "' " +
+                    "and Handlebars fallback failed also  with '" + hbE.getMessage() + "'" ,
+                    e
+                );
+            }
+        }
+    }
+
+    private String renderOnce(String inline, Map<String, Object> variables) throws IllegalVariableEvaluationException {
+        try {
+            PebbleTemplate compiledTemplate = pebbleEngine.getLiteralTemplate(inline);
+
+            Writer writer = new JsonWriter(new StringWriter());
+            compiledTemplate.evaluate(writer, variables);
+            return writer.toString();
+        } catch (IOException | PebbleException e) {
+            if (this.variableConfiguration.disableHandlebars) {
+                if (e instanceof PebbleException) {
+                    throw properPebbleException((PebbleException) e);
                 }
+
+                throw new IllegalVariableEvaluationException(e);
+            }
+
+            try {
+                return this.handlebarsTemplate(inline).apply(variables);
+            } catch (HandlebarsException | IOException hbE) {
+                throw new IllegalVariableEvaluationException(
+                    "Pebble evaluation failed with '" + e.getMessage() +  "' " +
+                    "and Handlebars fallback failed also  with '" + hbE.getMessage() + "'" ,
+                    e
+                );
             }
+        }
+    }
+
+    private Template handlebarsTemplate(String inline) throws IOException {
+        if (handlebarsCache == null) {
+            return handlebars.compileInline(inline);
+        }
+
+        Template template = handlebarsCache.getIfPresent(inline);
 
-            isSame = currentTemplate.equals(current);
-            currentTemplate = current;
+        if (template != null) {
+            handlebarsHitCount.increment();
+            return template;
         }
 
-        return current;
+        handlebarsMissCount.increment();
+
+        template = handlebars.compileInline(inline);
+        handlebarsCache.put(inline, template);
+
+        return template;
+    }
+
+    /**
+     * @return true if the string contains any pebble or handlebars delimiter (<code>{{</code>, <code>{%</code> or <code>{#</code>)
+     */
+    public static boolean isTemplate(String inline) {
+        int index = inline.indexOf('{');
+
+        while (index >= 0 && index < inline.length() - 1) {
+            char next = inline.charAt(index + 1);
+
+            if (next == '{' || next == '%' || next == '#') {
+                return true;
+            }
+
+            index = inline.indexOf('{', index + 1);
+        }
+
+        return false;
     }
 
     public IllegalVariableEvaluationException properPebbleException(PebbleException e) {
@@ -208,10 +332,18 @@ public class VariableRenderer {
             this.disableHandlebars = true;
             this.cacheEnabled = true;
             this.cacheSize = 1000;
+            this.cacheMaxMemory = "64MB";
+            this.jqCacheMaxMemory = "32MB";
         }
 
         Boolean disableHandlebars;
         Boolean cacheEnabled;
+
+        // handlebars templates only, pebble templates are bounded by cacheMaxMemory
         Integer cacheSize;
+        String cacheMaxMemory;
+
+        // json strings parsed by the jq filter and helper
+        String jqCacheMaxMemory;
     }
 }
@@ -1,7 +1,7 @@
 package io.kestra.core.runners;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import com.google.common.base.Charsets;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
@@ -40,6 +40,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
@@ -56,6 +57,7 @@ public class Worker implements Runnable, Closeable {
 
     private final Set<String> killedExecution = ConcurrentHashMap.newKeySet();
     private final ExecutorService executors;
+    private final Semaphore inFlight;
 
     @Getter
     private final Map<Long, AtomicInteger> metricRunningCount = new ConcurrentHashMap<>();
@@ -63,8 +65,16 @@ public class Worker implements Runnable, Closeable {
     @Getter
     private final List<WorkerThread> workerThreadReferences = new ArrayList<>();
 
-    @SuppressWarnings("unchecked")
     public Worker(ApplicationContext applicationContext, int thread) {
+        this(applicationContext, thread, null);
+    }
+
+    /**
+     * @param maxInFlight the max number of worker tasks received and not ended yet, the worker stops to fetch
+     *                    new worker tasks from the queue once reached. Unbounded if null.
+     */
+    @SuppressWarnings("unchecked")
+    public Worker(ApplicationContext applicationContext, int thread, Integer maxInFlight) {
         this.applicationContext = applicationContext;
         this.workerTaskQueue = applicationContext.getBean(WorkerTaskQueueInterface.class);
         this.workerTaskResultQueue = (QueueInterface<WorkerTaskResult>) applicationContext.getBean(
@@ -79,6 +89,7 @@ public class Worker implements Runnable, Closeable {
 
         ExecutorsUtils executorsUtils = applicationContext.getBean(ExecutorsUtils.class);
         this.executors = executorsUtils.maxCachedThreadPool(thread,"worker");
+        this.inFlight = maxInFlight != null && maxInFlight > 0 ? new Semaphore(maxInFlight) : null;
     }
 
     @Override
@@ -102,47 +113,93 @@ public class Worker implements Runnable, Closeable {
         this.workerTaskQueue.receive(
             Worker.class,
             workerTask -> {
+                // the queue don't fetch more worker tasks than the available permits, so this will not block while this
+                // worker is the only consumer of the queue
+                boolean acquired = this.acquire();
+
+                long received = System.nanoTime();
+
                 executors.execute(() -> {
-                    if (workerTask.getTask() instanceof RunnableTask) {
-                        this.run(workerTask, true);
-                    } else if (workerTask.getTask() instanceof io.kestra.core.tasks.flows.Worker) {
-                        RunContext runContext = workerTask.getRunContext();
-
-                        try {
-                            io.kestra.core.tasks.flows.Worker workerTasks = (io.kestra.core.tasks.flows.Worker) workerTask.getTask();
-
-                            for (Task currentTask : workerTasks.getTasks()) {
-                                WorkerTask currentWorkerTask = workerTasks.workerTask(
-                                    workerTask.getTaskRun(),
-                                    currentTask,
-                                    runContext
-                                );
-
-                                WorkerTaskResult workerTaskResult = this.run(currentWorkerTask, false);
-
-                                if (workerTaskResult.getTaskRun().getState().isFailed()) {
-                                    break;
-                                }
-
-                                runContext = runContext.updateVariables(workerTaskResult, workerTask.getTaskRun());
-                            }
-                        } finally {
-                            runContext.cleanup();
+                    metricRegistry
+                        .timer(MetricRegistry.METRIC_WORKER_QUEUE_WAIT_DURATION, metricRegistry.tags(workerTask))
+                        .record(Duration.ofNanos(System.nanoTime() - received));
+
+                    try {
+                        this.handle(workerTask);
+                    } finally {
+                        if (acquired) {
+                            this.inFlight.release();
                         }
                     }
                 });
-            }
+            },
+            this::available
         );
     }
 
+    private int available() {
+        return this.inFlight == null ? Integer.MAX_VALUE : this.inFlight.availablePermits();
+    }
+
+    /**
+     * @return false if there is no limit or if interrupted (on shutdown): the worker task is already claimed by this
+     * worker, so it's handled anyway
+     */
+    private boolean acquire() {
+        if (this.inFlight == null) {
+            return false;
+        }
+
+        try {
+            this.inFlight.acquire();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void handle(WorkerTask workerTask) {
+        if (workerTask.getTask() instanceof RunnableTask) {
+            this.run(workerTask, true);
+        } else if (workerTask.getTask() instanceof io.kestra.core.tasks.flows.Worker) {
+            RunContext runContext = workerTask.getRunContext();
+
+            try {
+                io.kestra.core.tasks.flows.Worker workerTasks = (io.kestra.core.tasks.flows.Worker) workerTask.getTask();
+
+                for (Task currentTask : workerTasks.getTasks()) {
+                    WorkerTask currentWorkerTask = workerTasks.workerTask(
+                        workerTask.getTaskRun(),
+                        currentTask,
+                        runContext
+                    );
+
+                    WorkerTaskResult workerTaskResult = this.run(currentWorkerTask, false);
+
+                    if (workerTaskResult.getTaskRun().getState().isFailed()) {
+                        break;
+                    }
+
+                    runContext = runContext.updateVariables(workerTaskResult, workerTask.getTaskRun());
+                }
+            } finally {
+                runContext.cleanup();
+            }
+        }
+    }
+
     private static ZonedDateTime now() {
         return ZonedDateTime.now().truncatedTo(ChronoUnit.SECONDS);
     }
 
     private WorkerTask cleanUpTransient(WorkerTask workerTask) {
-        try {
-            return MAPPER.readValue(MAPPER.writeValueAsString(workerTask), WorkerTask.class);
-        } catch (JsonProcessingException e) {
+        // buffered tokens, no json text to write & parse again
+        try (TokenBuffer buffer = new TokenBuffer(MAPPER, false)) {
+            MAPPER.writeValue(buffer, workerTask);
+
+            return MAPPER.readValue(buffer.asParser(), WorkerTask.class);
+        } catch (IOException e) {
             log.warn("Unable to cleanup transient", e);
 
             return workerTask;
@@ -4,24 +4,48 @@ import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.mitchellbosecke.pebble.cache.PebbleCache;
 import com.mitchellbosecke.pebble.template.PebbleTemplate;
+import io.kestra.core.metrics.MetricRegistry;
+import io.micrometer.core.instrument.Counter;
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 
 @Slf4j
 public class PebbleLruCache implements PebbleCache<Object, PebbleTemplate> {
+    private static final int TEMPLATE_OVERHEAD = 1024;
+    private static final int BYTES_PER_CHAR = 8;
+
     Cache<Object, PebbleTemplate> cache;
 
-    public PebbleLruCache(int maximumSize) {
+    private final Counter hitCount;
+
+    private final Counter missCount;
+
+    /**
+     * @param maximumMemory the maximum memory used by the compiled templates in bytes, estimated from their source
+     */
+    public PebbleLruCache(long maximumMemory, MetricRegistry metricRegistry) {
         cache = CacheBuilder.newBuilder()
             .initialCapacity(250)
-            .maximumSize(maximumSize)
+            .maximumWeight(maximumMemory)
+            .<Object, PebbleTemplate>weigher(PebbleLruCache::weight)
             .build();
+
+        this.hitCount = metricRegistry.counter(MetricRegistry.VARIABLE_TEMPLATE_CACHE_HIT_COUNT, "engine", "pebble");
+        this.missCount = metricRegistry.counter(MetricRegistry.VARIABLE_TEMPLATE_CACHE_MISS_COUNT, "engine", "pebble");
     }
 
     @Override
     public PebbleTemplate computeIfAbsent(Object key, Function<? super Object, ? extends PebbleTemplate> mappingFunction) {
+        PebbleTemplate template = cache.getIfPresent(key);
+
+        if (template != null) {
+            hitCount.increment();
+            return template;
+        }
+
+        missCount.increment();
+
         try {
             return cache.get(key, () -> mappingFunction.apply(key));
         } catch (Exception e) {
@@ -30,6 +54,16 @@ public class PebbleLruCache implements PebbleCache<Object, PebbleTemplate> {
         }
     }
 
+    /**
+     * Rough estimation of a compiled template size: the nodes tree has a fixed overhead and grows with the source,
+     * that is kept as the key and on the text nodes.
+     */
+    private static int weight(Object key, PebbleTemplate template) {
+        int length = key instanceof String ? ((String) key).length() : 0;
+
+        return (int) Math.min(Integer.MAX_VALUE, TEMPLATE_OVERHEAD + (long) length * BYTES_PER_CHAR);
+    }
+
     @Override
     public void invalidateAll() {
         cache.invalidateAll();
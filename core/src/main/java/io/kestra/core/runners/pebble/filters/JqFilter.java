@@ -9,23 +9,16 @@ import com.mitchellbosecke.pebble.error.PebbleException;
 import com.mitchellbosecke.pebble.extension.Filter;
 import com.mitchellbosecke.pebble.template.EvaluationContext;
 import com.mitchellbosecke.pebble.template.PebbleTemplate;
-import io.kestra.core.serializers.JacksonMapper;
-import net.thisptr.jackson.jq.BuiltinFunctionLoader;
-import net.thisptr.jackson.jq.JsonQuery;
-import net.thisptr.jackson.jq.Scope;
-import net.thisptr.jackson.jq.Versions;
+import io.kestra.core.utils.JqUtils;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 public class JqFilter implements Filter {
-    private final Scope scope;
     private final List<String> argumentNames = new ArrayList<>();
 
     public JqFilter() {
-        scope = Scope.newEmptyScope();
-        BuiltinFunctionLoader.getInstance().loadFunctions(Versions.JQ_1_6, scope);
         this.argumentNames.add("expression");
     }
 
@@ -46,23 +39,13 @@ public class JqFilter implements Filter {
 
         String pattern = (String) args.get("expression");
 
-        Scope rootScope = Scope.newEmptyScope();
-        BuiltinFunctionLoader.getInstance().loadFunctions(Versions.JQ_1_6, rootScope);
         try {
-
-            JsonQuery q = JsonQuery.compile(pattern, Versions.JQ_1_6);
-
-            JsonNode in;
-            if (input instanceof String) {
-                in = JacksonMapper.ofJson().readTree((String) input);
-            } else {
-                in = JacksonMapper.ofJson().valueToTree(input);
-            }
+            JsonNode in = JqUtils.toJsonNode(input);
 
             final List<Object> out = new ArrayList<>();
 
             try {
-                q.apply(scope, in, v -> {
+                JqUtils.apply(pattern, in, v -> {
                     if (v instanceof TextNode) {
                         out.add(v.textValue());
                     } else if (v instanceof NullNode) {
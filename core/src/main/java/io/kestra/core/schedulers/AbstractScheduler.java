@@ -1,5 +1,6 @@
 package io.kestra.core.schedulers;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Throwables;
 import com.google.common.util.concurrent.*;
 import io.kestra.core.exceptions.InternalException;
@@ -20,7 +21,9 @@ import io.kestra.core.services.FlowListenersInterface;
 import io.kestra.core.services.TaskDefaultService;
 import io.kestra.core.utils.Await;
 import io.kestra.core.utils.ExecutorsUtils;
+import io.kestra.core.utils.IdUtils;
 import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.ConfigurationProperties;
 import io.micronaut.inject.qualifiers.Qualifiers;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -29,6 +32,8 @@ import lombok.experimental.SuperBuilder;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 
+import java.net.InetAddress;
+import java.net.UnknownHostException;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZonedDateTime;
@@ -66,6 +71,18 @@ public abstract class AbstractScheduler implements Scheduler {
     @Getter
     private List<FlowWithTrigger> schedulable = new ArrayList<>();
 
+    // schedulable triggers of each flow, updated incrementally on each flow change
+    private final Map<String, List<FlowWithTrigger>> schedulableByFlow = new LinkedHashMap<>();
+
+    // schedulable triggers ordered by the next date they need to be looked at, only the due ones are handled on each loop
+    private final PriorityQueue<DueTrigger> dueQueue = new PriorityQueue<>(Comparator.comparing(DueTrigger::getDate));
+    private final AtomicInteger dueQueueSize;
+
+    // triggers ownership between the scheduler instances, only used when sharding is enabled
+    private final ShardingConfiguration shardingConfiguration;
+    private final SchedulerInstance instance;
+    private final SchedulerOwnership ownership;
+
     @Getter
     private Map<String, FlowWithPollingTriggerNextDate> schedulableNextDate = new HashMap<>();
 
@@ -87,12 +104,36 @@ public abstract class AbstractScheduler implements Scheduler {
             .getBean(ExecutorsUtils.class)
             .cachedThreadPool("scheduler-polling")
         );
+
+        this.dueQueueSize = metricRegistry.gauge(MetricRegistry.SCHEDULER_QUEUE_SIZE, new AtomicInteger(0));
+
+        this.shardingConfiguration = applicationContext.getBean(ShardingConfiguration.class);
+        this.instance = SchedulerInstance.builder()
+            .id(IdUtils.create())
+            .hostname(hostname())
+            .expireDate(Instant.now())
+            .build();
+        this.ownership = new SchedulerOwnership(
+            this.instance.getId(),
+            shardingConfiguration.getLeaseDuration(),
+            shardingConfiguration.gainDelay()
+        );
     }
 
     @Override
     public void run() {
         flowListeners.run();
 
+        // scheduled first, so the first loop already knows its triggers
+        if (shardingConfiguration.getEnabled()) {
+            scheduleExecutor.scheduleAtFixedRate(
+                this::heartbeat,
+                0,
+                shardingConfiguration.heartbeatInterval().toMillis(),
+                TimeUnit.MILLISECONDS
+            );
+        }
+
         ScheduledFuture<?> handle = scheduleExecutor.scheduleAtFixedRate(
             this::handle,
             0,
@@ -100,7 +141,7 @@ public abstract class AbstractScheduler implements Scheduler {
             TimeUnit.SECONDS
         );
 
-        flowListeners.listen(this::computeSchedulable);
+        flowListeners.listen(this::computeSchedulable, this::updateSchedulable);
 
         // look at exception on the main thread
         Thread thread = new Thread(
@@ -124,27 +165,88 @@ public abstract class AbstractScheduler implements Scheduler {
     }
 
     private void computeSchedulable(List<Flow> flows) {
-        schedulableNextDate = new HashMap<>();
+        synchronized (this) {
+            schedulableNextDate = new HashMap<>();
+            schedulableByFlow.clear();
+            dueQueue.clear();
+
+            flows.forEach(flow -> schedulableByFlow.put(flow.uidWithoutRevision(), this.schedulable(flow)));
+
+            this.refreshSchedulable();
+
+            ZonedDateTime now = now();
+            schedulable.forEach(f -> dueQueue.add(new DueTrigger(f, now)));
+            dueQueueSize.set(dueQueue.size());
+        }
+    }
 
-        this.schedulable = flows
+    private void updateSchedulable(Flow flow, Flow previous) {
+        synchronized (this) {
+            String uid = flow.uidWithoutRevision();
+
+            schedulableNextDate
+                .values()
+                .removeIf(f -> f.getFlow().uidWithoutRevision().equals(uid));
+
+            dueQueue.removeIf(d -> d.getFlowWithTrigger().getFlow().uidWithoutRevision().equals(uid));
+
+            if (flow.isDeleted()) {
+                schedulableByFlow.remove(uid);
+            } else {
+                List<FlowWithTrigger> flowSchedulable = this.schedulable(flow);
+                schedulableByFlow.put(uid, flowSchedulable);
+
+                ZonedDateTime now = now();
+                flowSchedulable.forEach(f -> dueQueue.add(new DueTrigger(f, now)));
+            }
+
+            dueQueueSize.set(dueQueue.size());
+
+            this.refreshSchedulable();
+        }
+    }
+
+    /**
+     * @return the next date each trigger will be looked at, by trigger uid
+     */
+    @VisibleForTesting
+    synchronized Map<String, ZonedDateTime> dueDates() {
+        return dueQueue
             .stream()
-            .filter(flow -> flow.getTriggers() != null && flow.getTriggers().size() > 0)
-            .filter(flow -> !flow.isDisabled())
-            .flatMap(flow -> flow.getTriggers()
-                .stream()
-                .filter(abstractTrigger -> !abstractTrigger.isDisabled())
-                .map(trigger -> {
-                    RunContext runContext = runContextFactory.of(flow, trigger);
-
-                    return new FlowWithTrigger(
-                        flow,
-                        trigger,
-                        runContext,
-                        conditionService.conditionContext(runContext, flow, null)
-                    );
-                })
-            )
-            .filter(flowWithTrigger -> flowWithTrigger.getTrigger() instanceof PollingTriggerInterface)
+            .collect(Collectors.toMap(
+                d -> Trigger.of(d.getFlowWithTrigger().getFlow(), d.getFlowWithTrigger().getTrigger()).uid(),
+                DueTrigger::getDate,
+                (a, b) -> b
+            ));
+    }
+
+    private void refreshSchedulable() {
+        this.schedulable = schedulableByFlow
+            .values()
+            .stream()
+            .flatMap(Collection::stream)
+            .collect(Collectors.toList());
+    }
+
+    private List<FlowWithTrigger> schedulable(Flow flow) {
+        if (flow.getTriggers() == null || flow.getTriggers().size() == 0 || flow.isDisabled()) {
+            return List.of();
+        }
+
+        return flow.getTriggers()
+            .stream()
+            .filter(abstractTrigger -> !abstractTrigger.isDisabled())
+            .filter(abstractTrigger -> abstractTrigger instanceof PollingTriggerInterface)
+            .map(trigger -> {
+                RunContext runContext = runContextFactory.of(flow, trigger);
+
+                return new FlowWithTrigger(
+                    flow,
+                    trigger,
+                    runContext,
+                    conditionService.conditionContext(runContext, flow, null)
+                );
+            })
             .collect(Collectors.toList());
     }
 
@@ -159,50 +261,39 @@ public abstract class AbstractScheduler implements Scheduler {
 
         ZonedDateTime now = now();
 
+        long start = System.nanoTime();
+
         synchronized (this) {
+            // only the triggers that are due, the other ones will be looked at on their next date
+            List<DueTrigger> due = new ArrayList<>();
+            while (!dueQueue.isEmpty() && !dueQueue.peek().getDate().isAfter(now)) {
+                DueTrigger dueTrigger = dueQueue.poll();
+
+                metricRegistry
+                    .timer(MetricRegistry.SCHEDULER_DUE_LATE_DURATION)
+                    .record(Duration.between(dueTrigger.getDate(), now));
+
+                due.add(dueTrigger);
+            }
+
             if (log.isDebugEnabled()) {
                 log.debug(
-                    "Scheduler next iteration for {} with {} schedulables of {} flows",
+                    "Scheduler next iteration for {} with {} due of {} schedulables of {} flows",
                     now,
+                    due.size(),
                     schedulable.size(),
-                    this.flowListeners.flows().size()
+                    schedulableByFlow.size()
                 );
             }
 
             // get all that is ready from evaluation
-            List<FlowWithPollingTriggerNextDate> readyForEvaluate = schedulable
-                .stream()
-                .filter(f -> conditionService.isValid(f.getFlow(), f.getTrigger(), f.getConditionContext()))
-                .map(flowWithTrigger -> FlowWithPollingTrigger.builder()
-                    .flow(flowWithTrigger.getFlow())
-                    .trigger(flowWithTrigger.getTrigger())
-                    .pollingTrigger((PollingTriggerInterface) flowWithTrigger.getTrigger())
-                    .conditionContext(flowWithTrigger.getConditionContext())
-                    .triggerContext(TriggerContext
-                        .builder()
-                        .namespace(flowWithTrigger.getFlow().getNamespace())
-                        .flowId(flowWithTrigger.getFlow().getId())
-                        .flowRevision(flowWithTrigger.getFlow().getRevision())
-                        .triggerId(flowWithTrigger.getTrigger().getId())
-                        .date(now())
-                        .build()
-                    )
-                    .build()
-                )
-                .filter(f -> this.isEvaluationInterval(f, now))
-                .filter(f -> this.isExecutionNotRunning(f, now))
-                .map(f -> {
-                    synchronized (this) {
-                        Trigger lastTrigger = this.getLastTrigger(f, now);
-
-                        return FlowWithPollingTriggerNextDate.of(
-                            f,
-                            f.getPollingTrigger().nextEvaluationDate(f.getConditionContext(), Optional.of(lastTrigger))
-                        );
-                    }
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+            List<FlowWithPollingTriggerNextDate> readyForEvaluate = new ArrayList<>();
+            due.forEach(dueTrigger -> dueQueue.add(new DueTrigger(
+                dueTrigger.getFlowWithTrigger(),
+                this.readyForEvaluate(dueTrigger.getFlowWithTrigger(), now, readyForEvaluate)
+            )));
+
+            dueQueueSize.set(dueQueue.size());
 
             if (log.isDebugEnabled()) {
                 log.debug(
@@ -243,6 +334,129 @@ public abstract class AbstractScheduler implements Scheduler {
                     }
                 });
         }
+
+        metricRegistry
+            .timer(MetricRegistry.SCHEDULER_LOOP_DURATION)
+            .record(Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Add the trigger to {@code readyForEvaluate} if it must be evaluated now.
+     *
+     * @return the next date this trigger need to be looked at
+     */
+    private ZonedDateTime readyForEvaluate(FlowWithTrigger flowWithTrigger, ZonedDateTime now, List<FlowWithPollingTriggerNextDate> readyForEvaluate) {
+        ZonedDateTime nextLoop = now.plusSeconds(1);
+
+        // the ownership can only change on the next heartbeat, that will requeue all the triggers
+        if (!this.isOwner(Trigger.of(flowWithTrigger.getFlow(), flowWithTrigger.getTrigger()).uid())) {
+            return now.plus(shardingConfiguration.heartbeatInterval());
+        }
+
+        if (!conditionService.isValid(flowWithTrigger.getFlow(), flowWithTrigger.getTrigger(), flowWithTrigger.getConditionContext())) {
+            return nextLoop;
+        }
+
+        FlowWithPollingTrigger f = FlowWithPollingTrigger.builder()
+            .flow(flowWithTrigger.getFlow())
+            .trigger(flowWithTrigger.getTrigger())
+            .pollingTrigger((PollingTriggerInterface) flowWithTrigger.getTrigger())
+            .conditionContext(flowWithTrigger.getConditionContext())
+            .triggerContext(TriggerContext
+                .builder()
+                .namespace(flowWithTrigger.getFlow().getNamespace())
+                .flowId(flowWithTrigger.getFlow().getId())
+                .flowRevision(flowWithTrigger.getFlow().getRevision())
+                .triggerId(flowWithTrigger.getTrigger().getId())
+                .date(now())
+                .build()
+            )
+            .build();
+
+        if (!this.isEvaluationInterval(f, now)) {
+            return this.nextEvaluationInterval(f, nextLoop);
+        }
+
+        // we need to look at each loop to know when the execution is done
+        if (!this.isExecutionNotRunning(f, now)) {
+            return nextLoop;
+        }
+
+        Trigger lastTrigger = this.getLastTrigger(f, now);
+
+        FlowWithPollingTriggerNextDate ready = FlowWithPollingTriggerNextDate.of(
+            f,
+            f.getPollingTrigger().nextEvaluationDate(f.getConditionContext(), Optional.of(lastTrigger))
+        );
+
+        readyForEvaluate.add(ready);
+
+        if (f.getPollingTrigger().getInterval() != null) {
+            return this.nextEvaluationInterval(f, nextLoop);
+        }
+
+        // the evaluation can't lead to an execution before the next date
+        return ready.getNext() != null && ready.getNext().isAfter(nextLoop) ? ready.getNext() : nextLoop;
+    }
+
+    private void heartbeat() {
+        try {
+            Instant now = Instant.now();
+
+            List<String> instances = triggerState
+                .heartbeat(this.instance.toBuilder().expireDate(now.plus(shardingConfiguration.getLeaseDuration())).build())
+                .stream()
+                .map(SchedulerInstance::getId)
+                .collect(Collectors.toList());
+
+            synchronized (this) {
+                if (!this.ownership.heartbeat(instances, now)) {
+                    return;
+                }
+
+                log.info(
+                    "Scheduler instance '{}' rebalancing triggers on {} instances",
+                    this.instance.getId(),
+                    instances.size()
+                );
+
+                // all the triggers must be looked at with the new ownership
+                ZonedDateTime date = now();
+                List<DueTrigger> requeue = new ArrayList<>(dueQueue);
+                dueQueue.clear();
+                requeue.forEach(d -> dueQueue.add(new DueTrigger(d.getFlowWithTrigger(), date)));
+            }
+        } catch (Exception e) {
+            log.warn("Unable to renew the lease of scheduler instance '{}'", this.instance.getId(), e);
+        }
+    }
+
+    private boolean isOwner(String uid) {
+        return !shardingConfiguration.getEnabled() || this.ownership.isOwner(uid, Instant.now());
+    }
+
+    private static String hostname() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+
+    private ZonedDateTime nextEvaluationInterval(FlowWithPollingTrigger flowWithPollingTrigger, ZonedDateTime nextLoop) {
+        String key = flowWithPollingTrigger.getTriggerContext().uid();
+        ZonedDateTime last = this.lastEvaluate.get(key);
+
+        if (last == null || this.evaluateRunning.containsKey(key)) {
+            return nextLoop;
+        }
+
+        // isEvaluationInterval is strictly after the interval
+        ZonedDateTime next = last
+            .plus(flowWithPollingTrigger.getPollingTrigger().getInterval())
+            .plusSeconds(1);
+
+        return next.isAfter(nextLoop) ? next : nextLoop;
     }
 
     private static class EvaluateFuture implements FutureCallback<SchedulerExecutionWithTrigger> {
@@ -517,6 +731,14 @@ public abstract class AbstractScheduler implements Scheduler {
     @Override
     public void close() {
         this.scheduleExecutor.shutdown();
+
+        if (shardingConfiguration.getEnabled() && this.triggerState != null) {
+            try {
+                this.triggerState.release(this.instance);
+            } catch (Exception e) {
+                log.warn("Unable to release the lease of scheduler instance '{}'", this.instance.getId(), e);
+            }
+        }
     }
 
     @SuperBuilder(toBuilder = true)
@@ -569,6 +791,29 @@ public abstract class AbstractScheduler implements Scheduler {
         }
     }
 
+    @ConfigurationProperties("kestra.scheduler.sharding")
+    @Getter
+    public static class ShardingConfiguration {
+        Boolean enabled = false;
+        Duration leaseDuration = Duration.ofSeconds(30);
+        Duration consistencyWindow = Duration.ofSeconds(5);
+
+        public Duration heartbeatInterval() {
+            return this.leaseDuration.dividedBy(3);
+        }
+
+        public Duration gainDelay() {
+            return this.heartbeatInterval().plus(this.consistencyWindow);
+        }
+    }
+
+    @AllArgsConstructor
+    @Getter
+    private static class DueTrigger {
+        private final FlowWithTrigger flowWithTrigger;
+        private final ZonedDateTime date;
+    }
+
     @AllArgsConstructor
     @Getter
     public static class FlowWithTrigger {
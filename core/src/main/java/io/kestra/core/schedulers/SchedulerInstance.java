@@ -0,0 +1,24 @@
+package io.kestra.core.schedulers;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.extern.jackson.Jacksonized;
+
+import java.time.Instant;
+import javax.validation.constraints.NotNull;
+
+/**
+ * A live scheduler instance, owning its share of the triggers until its lease expires.
+ */
+@Value
+@Builder(toBuilder = true)
+@Jacksonized
+public class SchedulerInstance {
+    @NotNull
+    String id;
+
+    String hostname;
+
+    @NotNull
+    Instant expireDate;
+}
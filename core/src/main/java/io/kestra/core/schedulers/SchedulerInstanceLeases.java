@@ -0,0 +1,82 @@
+package io.kestra.core.schedulers;
+
+import io.kestra.core.models.Setting;
+import io.kestra.core.repositories.SettingRepositoryInterface;
+import io.kestra.core.serializers.JacksonMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Scheduler instance leases stored as {@link Setting}, for the trigger states that share a setting repository between
+ * all the scheduler instances. Leases are saved on each heartbeat, so they are stored as internal settings without
+ * any crud event.
+ * <p>
+ * The setting repository can be eventually consistent (ie: Elasticsearch): a renewed lease can be seen late by the
+ * others instances, up to the consistency window. A lease is only removed once expired for more than this window, and
+ * the instances wait for it before owning a gained trigger, see {@link SchedulerOwnership}.
+ */
+@Slf4j
+public class SchedulerInstanceLeases {
+    private static final String PREFIX = "scheduler.instance.";
+
+    private final SettingRepositoryInterface settingRepository;
+    private final Duration consistencyWindow;
+
+    public SchedulerInstanceLeases(SettingRepositoryInterface settingRepository, Duration consistencyWindow) {
+        this.settingRepository = settingRepository;
+        this.consistencyWindow = consistencyWindow;
+    }
+
+    public List<SchedulerInstance> heartbeat(SchedulerInstance instance) {
+        this.settingRepository.saveInternal(Setting.builder()
+            .key(PREFIX + instance.getId())
+            .value(JacksonMapper.toMap(instance))
+            .build()
+        );
+
+        Instant now = Instant.now();
+        List<SchedulerInstance> instances = new ArrayList<>();
+
+        for (Setting setting : this.settingRepository.findAll()) {
+            if (!setting.getKey().startsWith(PREFIX)) {
+                continue;
+            }
+
+            SchedulerInstance current = JacksonMapper.toMap(setting.getValue(), SchedulerInstance.class);
+
+            if (current.getId().equals(instance.getId())) {
+                // our own lease, the repository can return the previous version
+                instances.add(instance);
+            } else if (!current.getExpireDate().isBefore(now)) {
+                instances.add(current);
+            } else if (current.getExpireDate().plus(this.consistencyWindow).isBefore(now)) {
+                // a renewed lease can be seen late, only an expired lease for sure is removed
+                log.info("Scheduler instance '{}' on '{}' lease has expired", current.getId(), current.getHostname());
+                this.delete(setting.getKey());
+            }
+        }
+
+        // our own lease is not visible yet
+        if (instances.stream().noneMatch(current -> current.getId().equals(instance.getId()))) {
+            instances.add(instance);
+        }
+
+        return instances;
+    }
+
+    public void release(SchedulerInstance instance) {
+        this.delete(PREFIX + instance.getId());
+    }
+
+    private void delete(String key) {
+        try {
+            this.settingRepository.deleteInternal(Setting.builder().key(key).value(key).build());
+        } catch (IllegalStateException ignored) {
+            // already deleted by another instance
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package io.kestra.core.schedulers;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+
+/**
+ * The triggers owned by a scheduler instance, from the live instances seen on its heartbeats.
+ * <ul>
+ *     <li>Nothing is owned before the first heartbeat, or once the lease could have expired after failed heartbeats.</li>
+ *     <li>A gained trigger is only owned after the gain delay: the previous owner must have had a heartbeat to see the
+ *     new instances, and the leases can be seen late by the others instances on an eventually consistent storage.
+ *     All the rings replaced during the gain delay are kept, so that a trigger gained before a second ring change
+ *     is still waiting for the delay of its own gain.</li>
+ * </ul>
+ */
+public class SchedulerOwnership {
+    private final String instanceId;
+    private final Duration leaseDuration;
+    private final Duration gainDelay;
+
+    private SchedulerRing ring;
+    private final Deque<PreviousRing> previousRings = new ArrayDeque<>();
+    private Instant lastHeartbeat;
+
+    public SchedulerOwnership(String instanceId, Duration leaseDuration, Duration gainDelay) {
+        this.instanceId = instanceId;
+        this.leaseDuration = leaseDuration;
+        this.gainDelay = gainDelay;
+    }
+
+    /**
+     * @param instances the ids of the live instances returned by a successful heartbeat
+     * @return true if the instances have changed, so the ownership of the triggers can have changed
+     */
+    public synchronized boolean heartbeat(Collection<String> instances, Instant now) {
+        this.lastHeartbeat = now;
+
+        SchedulerRing current = new SchedulerRing(instances);
+
+        this.previousRings.removeIf(previous -> !previous.isInGainDelay(this.gainDelay, now));
+
+        if (this.ring != null && this.ring.getInstances().equals(current.getInstances())) {
+            return false;
+        }
+
+        // joining other instances, all the triggers are gained
+        if (this.ring != null || current.getInstances().size() > 1) {
+            this.previousRings.addLast(new PreviousRing(this.ring, now));
+        }
+
+        this.ring = current;
+
+        return true;
+    }
+
+    public synchronized boolean isOwner(String uid, Instant now) {
+        // we don't own anything until the first heartbeat or if our lease could have expired
+        if (this.ring == null || this.lastHeartbeat.plus(this.leaseDuration).isBefore(now)) {
+            return false;
+        }
+
+        if (!this.instanceId.equals(this.ring.owner(uid))) {
+            return false;
+        }
+
+        // gained from a ring replaced during the gain delay
+        return this.previousRings
+            .stream()
+            .filter(previous -> previous.isInGainDelay(this.gainDelay, now))
+            .allMatch(previous -> previous.getRing() != null && this.instanceId.equals(previous.getRing().owner(uid)));
+    }
+
+    @AllArgsConstructor
+    @Getter
+    private static class PreviousRing {
+        private final SchedulerRing ring;
+        private final Instant replaced;
+
+        boolean isInGainDelay(Duration gainDelay, Instant now) {
+            return !this.replaced.plus(gainDelay).isBefore(now);
+        }
+    }
+}
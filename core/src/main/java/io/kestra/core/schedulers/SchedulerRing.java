@@ -0,0 +1,49 @@
+package io.kestra.core.schedulers;
+
+import com.google.common.hash.Hashing;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Consistent hashing of the triggers on the live scheduler instances.
+ * Each instance is placed many times on the ring, so the triggers are evenly spread and only the triggers of a joining
+ * or leaving instance are moved.
+ */
+public class SchedulerRing {
+    private static final int VIRTUAL_NODES = 64;
+
+    private final TreeMap<Long, String> ring = new TreeMap<>();
+
+    @Getter
+    private final Set<String> instances;
+
+    public SchedulerRing(Collection<String> instances) {
+        this.instances = Set.copyOf(instances);
+
+        this.instances.forEach(instance -> {
+            for (int i = 0; i < VIRTUAL_NODES; i++) {
+                this.ring.put(hash(instance + "#" + i), instance);
+            }
+        });
+    }
+
+    /**
+     * @param uid the trigger uid
+     * @return the owner instance id or {@code null} if there is no instance
+     */
+    public String owner(String uid) {
+        if (this.ring.isEmpty()) {
+            return null;
+        }
+
+        Map.Entry<Long, String> entry = this.ring.ceilingEntry(hash(uid));
+
+        return (entry != null ? entry : this.ring.firstEntry()).getValue();
+    }
+
+    private static long hash(String value) {
+        return Hashing.murmur3_128().hashString(value, StandardCharsets.UTF_8).asLong();
+    }
+}
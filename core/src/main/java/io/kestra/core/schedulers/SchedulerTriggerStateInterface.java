@@ -3,6 +3,7 @@ package io.kestra.core.schedulers;
 import io.kestra.core.models.triggers.Trigger;
 import io.kestra.core.models.triggers.TriggerContext;
 
+import java.util.List;
 import java.util.Optional;
 import javax.validation.ConstraintViolationException;
 
@@ -10,4 +11,22 @@ public interface SchedulerTriggerStateInterface {
     Optional<Trigger> findLast(TriggerContext trigger);
 
     Trigger save(Trigger trigger) throws ConstraintViolationException;
+
+    /**
+     * Renew the lease of this scheduler instance.
+     * The default implementation doesn't share the leases, so this instance owns all the triggers.
+     *
+     * @param instance this scheduler instance, with its new lease expiration
+     * @return all the scheduler instances with a valid lease, including this one
+     */
+    default List<SchedulerInstance> heartbeat(SchedulerInstance instance) {
+        return List.of(instance);
+    }
+
+    /**
+     * Release the lease of this scheduler instance, its triggers are moved without waiting for the lease expiration.
+     */
+    default void release(SchedulerInstance instance) {
+
+    }
 }
@@ -9,6 +9,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.fasterxml.jackson.dataformat.ion.IonObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLGenerator;
 import com.fasterxml.jackson.datatype.guava.GuavaModule;
@@ -103,6 +104,24 @@ abstract public class JacksonMapper {
         return ION_MAPPER;
     }
 
+    private static final ObjectMapper SMILE_MAPPER = JacksonMapper.configure(
+        new SmileMapper()
+    );
+
+    public static ObjectMapper ofSmile() {
+        return SMILE_MAPPER;
+    }
+
+    public static ObjectMapper ofSmile(boolean strict) {
+        if (strict) {
+            return SMILE_MAPPER;
+        }
+
+        return SMILE_MAPPER
+            .copy()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
     private static ObjectMapper configure(ObjectMapper mapper) {
         // unit test can be not init
         if (KestraClassLoader.isInit()) {
@@ -0,0 +1,125 @@
+package io.kestra.core.services;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.kestra.core.exceptions.IllegalVariableEvaluationException;
+import io.kestra.core.models.annotations.PluginProperty;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.runners.VariableRenderer;
+import io.kestra.core.utils.ListUtils;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Compile all the expressions of the dynamic properties of a flow (tasks &amp; triggers) when it's deployed.
+ * Invalid expressions are reported before any execution, and the compiled templates are kept on the
+ * {@link VariableRenderer} cache so the first renders don't have to parse them.
+ * The result is kept for the same flow instance: a flow validated when deployed (controller, yaml parser) and then
+ * again by the repository before being saved is only compiled once.
+ */
+@Singleton
+@Slf4j
+public class FlowExpressionService {
+    private final Map<Class<?>, List<Field>> dynamicFields = new ConcurrentHashMap<>();
+
+    // weak keys are compared by identity, a flow is immutable so its expressions don't change
+    private final Cache<Flow, List<String>> compiled = CacheBuilder.newBuilder()
+        .weakKeys()
+        .build();
+
+    @Inject
+    VariableRenderer variableRenderer;
+
+    /**
+     * @return the errors of the invalid expressions, empty if all expressions are valid
+     */
+    public List<String> compile(Flow flow) {
+        List<String> errors = this.compiled.getIfPresent(flow);
+
+        if (errors == null) {
+            errors = Collections.unmodifiableList(this.compileExpressions(flow));
+            this.compiled.put(flow, errors);
+        }
+
+        return errors;
+    }
+
+    private List<String> compileExpressions(Flow flow) {
+        List<String> errors = new ArrayList<>();
+
+        Stream.concat(
+            flow.allTasksWithChilds().stream().map(task -> new Plugin(task.getId(), task)),
+            ListUtils.emptyOnNull(flow.getTriggers()).stream().map(trigger -> new Plugin(trigger.getId(), trigger))
+        )
+            .forEach(plugin -> this.dynamicFields(plugin.getValue().getClass())
+                .forEach(field -> {
+                    Object value;
+                    try {
+                        value = field.get(plugin.getValue());
+                    } catch (IllegalAccessException e) {
+                        log.debug("Unable to read property '{}' of '{}'", field.getName(), plugin.getId(), e);
+                        return;
+                    }
+
+                    this.expressions(value)
+                        .forEach(expression -> {
+                            try {
+                                variableRenderer.compile(expression);
+                            } catch (IllegalVariableEvaluationException e) {
+                                errors.add("Invalid expression on '" + plugin.getId() + "." + field.getName() + "': " + e.getMessage());
+                            }
+                        });
+                })
+            );
+
+        return errors;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Stream<String> expressions(Object value) {
+        if (value instanceof String) {
+            return Stream.of((String) value);
+        } else if (value instanceof Collection) {
+            return ((Collection<Object>) value).stream().flatMap(this::expressions);
+        } else if (value instanceof Map) {
+            return ((Map<Object, Object>) value)
+                .entrySet()
+                .stream()
+                .flatMap(e -> Stream.concat(this.expressions(e.getKey()), this.expressions(e.getValue())));
+        }
+
+        return Stream.empty();
+    }
+
+    private List<Field> dynamicFields(Class<?> cls) {
+        return this.dynamicFields.computeIfAbsent(cls, c -> {
+            List<Field> fields = new ArrayList<>();
+
+            for (Class<?> current = c; current != null && current != Object.class; current = current.getSuperclass()) {
+                Arrays.stream(current.getDeclaredFields())
+                    .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                    .filter(field -> {
+                        PluginProperty annotation = field.getAnnotation(PluginProperty.class);
+                        return annotation != null && annotation.dynamic();
+                    })
+                    .filter(Field::trySetAccessible)
+                    .forEach(fields::add);
+            }
+
+            return fields;
+        });
+    }
+
+    @lombok.Value
+    private static class Plugin {
+        String id;
+        Object value;
+    }
+}
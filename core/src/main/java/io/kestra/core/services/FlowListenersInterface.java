@@ -13,5 +13,17 @@ public interface FlowListenersInterface {
 
     void listen(BiConsumer<Flow, Flow> consumer);
 
+    /**
+     * Receive all the current flows, then only the changed flows with their previous version, so the consumer can
+     * update its state incrementally instead of receiving all the flows on each change.
+     * Deleted flows are received with {@link Flow#isDeleted()}.
+     * The snapshot is received on registration and again each time the flows are reloaded (ie: after a restart or a
+     * rebalance of the underlying storage), it must replace the whole state of the consumer.
+     *
+     * @param snapshot receive all the current flows
+     * @param changes receive each changed flow &amp; its previous version if any
+     */
+    void listen(Consumer<List<Flow>> snapshot, BiConsumer<Flow, Flow> changes);
+
     List<Flow> flows();
 }
@@ -0,0 +1,123 @@
+package io.kestra.core.services;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.kestra.core.exceptions.InternalException;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.flows.TaskDefault;
+import io.kestra.core.tasks.flows.Template;
+import io.micronaut.context.annotation.Value;
+import io.micronaut.core.annotation.Nullable;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Inject the templates &amp; the task defaults on the flow used by the executors.
+ * The result is cached by namespace, id &amp; revision since it needs a full serialization round trip of the flow, a
+ * cached flow is only reused if the source flow, the global task defaults and the injected templates are still the same.
+ */
+@Singleton
+@Slf4j
+public class FlowTransformService {
+    private final TaskDefaultService taskDefaultService;
+
+    @Nullable
+    private final TaskGlobalDefaultConfiguration globalDefault;
+
+    private final Cache<String, TransformedFlow> cache;
+
+    @Inject
+    public FlowTransformService(
+        TaskDefaultService taskDefaultService,
+        @Nullable TaskGlobalDefaultConfiguration globalDefault,
+        @Value("${kestra.executor.flow-cache-size:1000}") int cacheSize
+    ) {
+        this.taskDefaultService = taskDefaultService;
+        this.globalDefault = globalDefault;
+        this.cache = CacheBuilder.newBuilder()
+            .maximumSize(cacheSize)
+            .build();
+    }
+
+    public Flow transform(Flow flow, Execution execution, Template.TemplateExecutorInterface templateExecutor) {
+        String key = flow.getRevision() != null ? flow.uid() : null;
+
+        if (key != null) {
+            TransformedFlow cached = this.cache.getIfPresent(key);
+
+            if (cached != null && cached.isValid(flow, this.globalDefaults(), templateExecutor)) {
+                return cached.getFlow();
+            }
+        }
+
+        List<TemplateUsage> templates = new ArrayList<>();
+        Flow result = flow;
+
+        try {
+            result = Template.injectTemplate(
+                flow,
+                execution,
+                (namespace, id) -> {
+                    io.kestra.core.models.templates.Template template = templateExecutor.findById(namespace, id).orElse(null);
+                    templates.add(new TemplateUsage(namespace, id, template));
+
+                    return template;
+                }
+            );
+        } catch (InternalException e) {
+            log.warn("Failed to inject template",  e);
+
+            // missing template, we don't cache in order to retry on next call
+            return taskDefaultService.injectDefaults(result, execution);
+        }
+
+        try {
+            result = taskDefaultService.injectDefaults(result);
+        } catch (Exception e) {
+            // log on the execution & don't cache in order to log it on every execution
+            return taskDefaultService.injectDefaults(result, execution);
+        }
+
+        if (key != null) {
+            this.cache.put(key, new TransformedFlow(flow, this.globalDefaults(), templates, result));
+        }
+
+        return result;
+    }
+
+    private List<TaskDefault> globalDefaults() {
+        return this.globalDefault != null ? this.globalDefault.getDefaults() : null;
+    }
+
+    @lombok.Value
+    private static class TemplateUsage {
+        String namespace;
+        String templateId;
+        io.kestra.core.models.templates.Template template;
+    }
+
+    @lombok.Value
+    private static class TransformedFlow {
+        Flow source;
+        List<TaskDefault> globalDefaults;
+        List<TemplateUsage> templates;
+        Flow flow;
+
+        boolean isValid(Flow flow, List<TaskDefault> globalDefaults, Template.TemplateExecutorInterface templateExecutor) {
+            return (this.source == flow || this.source.equals(flow)) &&
+                Objects.equals(this.globalDefaults, globalDefaults) &&
+                this.templates
+                    .stream()
+                    .allMatch(usage -> Objects.equals(
+                        usage.getTemplate(),
+                        templateExecutor.findById(usage.getNamespace(), usage.getTemplateId()).orElse(null)
+                    ));
+        }
+    }
+}
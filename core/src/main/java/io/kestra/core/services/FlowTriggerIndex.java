@@ -0,0 +1,281 @@
+package io.kestra.core.services;
+
+import io.kestra.core.models.conditions.Condition;
+import io.kestra.core.models.conditions.types.*;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.models.triggers.AbstractTrigger;
+import io.kestra.core.utils.ListUtils;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Index of the flows having a {@link io.kestra.core.models.triggers.types.Flow} trigger by the executions that can
+ * trigger them, based on the execution flow, namespace &amp; status conditions of the triggers.
+ * It only find the candidate flows for an execution, the conditions must still be evaluated by {@link FlowService}.
+ * It's maintained incrementally from the flow listeners, see {@link FlowListenersInterface#listen(java.util.function.Consumer, java.util.function.BiConsumer)}.
+ */
+public class FlowTriggerIndex {
+    private final Map<String, Flow> flows = new LinkedHashMap<>();
+
+    // flows that must be evaluated for every execution
+    private final Set<String> always = new LinkedHashSet<>();
+
+    private final Map<String, Set<String>> index = new HashMap<>();
+
+    // namespace prefix are the only keys that need a scan
+    private final Map<String, Set<String>> prefixes = new HashMap<>();
+
+    private final Map<String, Set<String>> keysByFlow = new HashMap<>();
+
+    public synchronized void snapshot(Collection<Flow> flows) {
+        this.flows.clear();
+        this.always.clear();
+        this.index.clear();
+        this.prefixes.clear();
+        this.keysByFlow.clear();
+
+        flows.forEach(this::put);
+    }
+
+    /**
+     * @param flow the changed flow, with {@link Flow#isDeleted()} if deleted
+     * @param previous the previous version of the flow if any
+     */
+    public synchronized void update(Flow flow, Flow previous) {
+        if (previous != null) {
+            this.remove(previous.uidWithoutRevision());
+        }
+
+        this.remove(flow.uidWithoutRevision());
+
+        if (!flow.isDeleted()) {
+            this.put(flow);
+        }
+    }
+
+    public synchronized void remove(String uidWithoutRevision) {
+        this.flows.remove(uidWithoutRevision);
+        this.always.remove(uidWithoutRevision);
+
+        Set<String> keys = this.keysByFlow.remove(uidWithoutRevision);
+        if (keys != null) {
+            keys.forEach(key -> {
+                removeFrom(this.index, key, uidWithoutRevision);
+                removeFrom(this.prefixes, key, uidWithoutRevision);
+            });
+        }
+    }
+
+    public synchronized void put(Flow flow) {
+        String uid = flow.uidWithoutRevision();
+        this.remove(uid);
+
+        List<io.kestra.core.models.triggers.types.Flow> triggers = flowTriggers(flow);
+        if (triggers.isEmpty()) {
+            return;
+        }
+
+        this.flows.put(uid, flow);
+
+        Set<String> keys = new HashSet<>();
+        Set<String> prefixes = new HashSet<>();
+
+        for (io.kestra.core.models.triggers.types.Flow trigger : triggers) {
+            Restriction restriction = restriction(trigger);
+
+            if (restriction == null) {
+                this.always.add(uid);
+                continue;
+            }
+
+            keys.addAll(restriction.keys);
+            prefixes.addAll(restriction.prefixes);
+        }
+
+        keys.forEach(key -> this.index.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(uid));
+        prefixes.forEach(prefix -> this.prefixes.computeIfAbsent(prefix, k -> new LinkedHashSet<>()).add(uid));
+
+        Set<String> all = new HashSet<>(keys);
+        all.addAll(prefixes);
+        this.keysByFlow.put(uid, all);
+    }
+
+    /**
+     * @return the flows that can be triggered by this execution, in the flows order
+     */
+    public synchronized List<Flow> candidates(Execution execution) {
+        Set<String> uids = new HashSet<>(this.always);
+
+        uids.addAll(this.index.getOrDefault(flowKey(execution.getNamespace(), execution.getFlowId()), Set.of()));
+        uids.addAll(this.index.getOrDefault(namespaceKey(execution.getNamespace()), Set.of()));
+        uids.addAll(this.index.getOrDefault(stateKey(execution.getState().getCurrent()), Set.of()));
+
+        this.prefixes.forEach((prefix, values) -> {
+            if (execution.getNamespace().startsWith(prefix)) {
+                uids.addAll(values);
+            }
+        });
+
+        return this.flows
+            .entrySet()
+            .stream()
+            .filter(e -> uids.contains(e.getKey()))
+            .map(Map.Entry::getValue)
+            .collect(Collectors.toList());
+    }
+
+    public synchronized int size() {
+        return this.flows.size();
+    }
+
+    private static List<io.kestra.core.models.triggers.types.Flow> flowTriggers(Flow flow) {
+        if (flow.isDisabled()) {
+            return List.of();
+        }
+
+        return ListUtils.emptyOnNull(flow.getTriggers())
+            .stream()
+            .filter(trigger -> !trigger.isDisabled())
+            .filter(trigger -> trigger instanceof io.kestra.core.models.triggers.types.Flow)
+            .map(trigger -> (io.kestra.core.models.triggers.types.Flow) trigger)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * The trigger is restricted by its most selective condition, plus the sub conditions of its multiple conditions
+     * since any of them can update the multiple condition window.
+     *
+     * @return the restriction or {@code null} if any execution can trigger the flow
+     */
+    private static Restriction restriction(AbstractTrigger trigger) {
+        List<Condition> conditions = ListUtils.emptyOnNull(trigger.getConditions());
+
+        Restriction result = conditions
+            .stream()
+            .map(FlowTriggerIndex::restriction)
+            .filter(Objects::nonNull)
+            .min(Comparator.comparing(Restriction::getSelectivity))
+            .orElse(null);
+
+        if (result == null) {
+            return null;
+        }
+
+        for (Condition condition : conditions) {
+            if (condition instanceof MultipleCondition) {
+                Restriction multiple = restriction(condition);
+
+                if (multiple == null) {
+                    return null;
+                }
+
+                result = result.union(multiple);
+            }
+        }
+
+        return result;
+    }
+
+    private static Restriction restriction(Condition condition) {
+        if (condition instanceof ExecutionFlowCondition) {
+            ExecutionFlowCondition current = (ExecutionFlowCondition) condition;
+
+            return new Restriction(1, Set.of(flowKey(current.getNamespace(), current.getFlowId())), Set.of());
+        }
+
+        if (condition instanceof ExecutionNamespaceCondition) {
+            ExecutionNamespaceCondition current = (ExecutionNamespaceCondition) condition;
+
+            if (current.getPrefix()) {
+                return new Restriction(3, Set.of(), Set.of(current.getNamespace()));
+            }
+
+            return new Restriction(2, Set.of(namespaceKey(current.getNamespace())), Set.of());
+        }
+
+        if (condition instanceof ExecutionStatusCondition) {
+            ExecutionStatusCondition current = (ExecutionStatusCondition) condition;
+
+            if (current.getIn() == null) {
+                return null;
+            }
+
+            return new Restriction(
+                4,
+                current.getIn().stream().map(FlowTriggerIndex::stateKey).collect(Collectors.toSet()),
+                Set.of()
+            );
+        }
+
+        if (condition instanceof OrCondition) {
+            return union(((OrCondition) condition).getConditions());
+        }
+
+        if (condition instanceof MultipleCondition) {
+            return union(((MultipleCondition) condition).getConditions().values());
+        }
+
+        return null;
+    }
+
+    private static Restriction union(Collection<Condition> conditions) {
+        Restriction result = null;
+
+        for (Condition condition : conditions) {
+            Restriction restriction = restriction(condition);
+
+            if (restriction == null) {
+                return null;
+            }
+
+            result = result == null ? restriction : result.union(restriction);
+        }
+
+        return result;
+    }
+
+    private static void removeFrom(Map<String, Set<String>> map, String key, String uid) {
+        Set<String> values = map.get(key);
+
+        if (values != null) {
+            values.remove(uid);
+
+            if (values.isEmpty()) {
+                map.remove(key);
+            }
+        }
+    }
+
+    private static String flowKey(String namespace, String flowId) {
+        return "flow:" + namespace + ":" + flowId;
+    }
+
+    private static String namespaceKey(String namespace) {
+        return "namespace:" + namespace;
+    }
+
+    private static String stateKey(State.Type state) {
+        return "state:" + state;
+    }
+
+    @lombok.Value
+    private static class Restriction {
+        // lower is more selective
+        int selectivity;
+        Set<String> keys;
+        Set<String> prefixes;
+
+        private Restriction union(Restriction other) {
+            Set<String> keys = new HashSet<>(this.keys);
+            keys.addAll(other.keys);
+
+            Set<String> prefixes = new HashSet<>(this.prefixes);
+            prefixes.addAll(other.prefixes);
+
+            return new Restriction(Math.max(this.selectivity, other.selectivity), keys, prefixes);
+        }
+    }
+}
@@ -11,14 +11,16 @@ import io.kestra.core.models.tasks.Task;
 import io.kestra.core.utils.Slugify;
 import io.micronaut.core.annotation.Introspected;
 import io.micronaut.core.annotation.Nullable;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.input.BoundedInputStream;
+import org.slf4j.LoggerFactory;
 
 import java.io.*;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Optional;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -27,12 +29,96 @@ public interface StorageInterface {
     @Retryable(includes = {IOException.class}, excludes = {FileNotFoundException.class})
     InputStream get(URI uri) throws IOException;
 
+    /**
+     * Get a range of bytes of a file.
+     * Storages that support positional reads should override it to avoid reading the file from the start.
+     *
+     * @param uri the storage uri
+     * @param offset the position of the first byte to read
+     * @param length the maximum number of bytes to read
+     * @return the stream of the range
+     */
+    @Retryable(includes = {IOException.class}, excludes = {FileNotFoundException.class})
+    default InputStream get(URI uri, long offset, long length) throws IOException {
+        InputStream inputStream = this.get(uri);
+
+        try {
+            IOUtils.skipFully(inputStream, offset);
+        } catch (IOException e) {
+            inputStream.close();
+            throw e;
+        }
+
+        return new BoundedInputStream(inputStream, length);
+    }
+
     @Retryable(includes = {IOException.class}, excludes = {FileNotFoundException.class})
     Long size(URI uri) throws IOException;
 
     @Retryable(includes = {IOException.class})
     URI put(URI uri, InputStream data) throws IOException;
 
+    /**
+     * Put a local file on the storage, the file is moved: it's deleted from the local filesystem once stored.
+     * Storages that can adopt a local file should override it to avoid the copy through a stream.
+     *
+     * @param uri the storage uri
+     * @param file the local file to move on the storage
+     * @return the uri of the stored file
+     */
+    @Retryable(includes = {IOException.class})
+    default URI put(URI uri, Path file) throws IOException {
+        URI put;
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(file))) {
+            put = this.put(uri, inputStream);
+        }
+
+        // the file is stored, a failure to delete it must not fail the put
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            LoggerFactory.getLogger(StorageInterface.class).warn("Unable to delete local file '{}'", file, e);
+        }
+
+        return put;
+    }
+
+    /**
+     * Concat some files of the storage on a new file.
+     * Storages that can compose files on the server side should override it to avoid reading the files.
+     *
+     * @param uris the storage uris of the files, in order
+     * @param uri the storage uri of the composed file
+     * @return the uri of the composed file
+     */
+    @Retryable(includes = {IOException.class})
+    default URI compose(List<URI> uris, URI uri) throws IOException {
+        Iterator<URI> iterator = uris.iterator();
+
+        // files are opened one after the other
+        Enumeration<InputStream> inputStreams = new Enumeration<>() {
+            @Override
+            public boolean hasMoreElements() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public InputStream nextElement() {
+                try {
+                    return get(iterator.next());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+
+        try {
+            return this.put(uri, new BufferedInputStream(new SequenceInputStream(inputStreams)));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
     @Retryable(includes = {IOException.class})
     boolean delete(URI uri) throws IOException;
 
@@ -85,17 +85,22 @@ public class EachSequential extends Sequential implements FlowableTask<VoidOutpu
     public Optional<State.Type> resolveState(RunContext runContext, Execution execution, TaskRun parentTaskRun) throws IllegalVariableEvaluationException {
         List<ResolvedTask> childTasks = this.childTasks(runContext, parentTaskRun);
 
-        if (childTasks.size() == 0) {
-            return Optional.of(State.Type.SUCCESS);
+        Optional<State.Type> state = childTasks.size() == 0 ?
+            Optional.of(State.Type.SUCCESS) :
+            FlowableUtils.resolveState(
+                execution,
+                childTasks,
+                FlowableUtils.resolveTasks(this.getErrors(), parentTaskRun),
+                parentTaskRun,
+                runContext
+            );
+
+        // the parent task run will be terminated, the resolved values are not needed anymore
+        if (state.isPresent()) {
+            FlowableUtils.evictEachTasks(parentTaskRun);
         }
 
-        return FlowableUtils.resolveState(
-            execution,
-            childTasks,
-            FlowableUtils.resolveTasks(this.getErrors(), parentTaskRun),
-            parentTaskRun,
-            runContext
-        );
+        return state;
     }
 
     @Override
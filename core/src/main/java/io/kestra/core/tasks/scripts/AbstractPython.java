@@ -11,11 +11,13 @@ import lombok.experimental.SuperBuilder;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 
@@ -34,6 +36,8 @@ import javax.validation.constraints.NotNull;
         "\n" +
         "You can also add a `pip.conf` in `inputFiles` to customize the pip download of dependencies (like a private registry).\n" +
         "\n" +
+        "When the worker enables `kestra.tasks.scripts.cache.enabled`, the `virtualenv` is shared by all the tasks with the same python, requirements & pip configuration and must not be modified by the script.\n" +
+        "\n" +
         "You can send outputs & metrics from your python script that can be used by others tasks. In order to help, we inject a python package directly on the working dir." +
         "Here is an example usage:\n" +
         "```python\n" +
@@ -105,20 +109,73 @@ public abstract class AbstractPython extends AbstractBash {
             renderer.add("set -o errexit");
         }
 
-        String requirementsAsString = "";
+        String requirementsAsString = null;
         if (requirements != null) {
-            requirementsAsString = "./bin/pip install " + runContext.render(String.join(" ", requirements), additionalVars) + " > /dev/null";
+            requirementsAsString = runContext.render(String.join(" ", requirements), additionalVars);
         }
 
-        renderer.addAll(Arrays.asList(
-            this.pythonPath + " -m venv --system-site-packages " + workingDirectory + " > /dev/null",
-            "./bin/pip install pip --upgrade > /dev/null",
-            requirementsAsString
-        ));
+        renderer.addAll(this.virtualEnvCommands(workingDirectory.toString(), requirementsAsString));
 
         return String.join("\n", renderer);
     }
 
+    private List<String> virtualEnvCommands(String directory, String requirementsAsString) {
+        return Arrays.asList(
+            this.pythonPath + " -m venv --system-site-packages " + directory + " > /dev/null",
+            "./bin/pip install pip --upgrade > /dev/null",
+            requirementsAsString != null ? "./bin/pip install " + requirementsAsString + " > /dev/null" : ""
+        );
+    }
+
+    /**
+     * Link a virtualenv from the {@link ScriptEnvironmentCache} on the working directory, the virtualenv is only
+     * created if no task already created one with the same python, requirements &amp; pip configuration.
+     *
+     * @return the environment to close at the end of the task, or {@code null} if the cache is not available
+     */
+    protected ScriptEnvironmentCache.Environment cachedVirtualEnv(RunContext runContext, List<String> requirements) throws Exception {
+        Optional<ScriptEnvironmentCache> cache = runContext.getApplicationContext().findBean(ScriptEnvironmentCache.class);
+
+        // with docker, the virtualenv must be created inside the container
+        if (cache.isEmpty() || this.runner != Runner.PROCESS) {
+            return null;
+        }
+
+        String requirementsAsString = requirements != null ? runContext.render(String.join(" ", requirements), additionalVars) : null;
+        Path pipConf = workingDirectory.resolve("pip.conf");
+        String pipConfContent = Files.exists(pipConf) ? Files.readString(pipConf) : null;
+        Map<String, String> env = this.finalEnv();
+
+        List<String> keys = new ArrayList<>(Arrays.asList(this.pythonPath, requirementsAsString, pipConfContent));
+        env.entrySet()
+            .stream()
+            .filter(e -> e.getKey().startsWith("PIP_"))
+            .sorted(Map.Entry.comparingByKey())
+            .forEach(e -> keys.add(e.getKey() + "=" + e.getValue()));
+
+        ScriptEnvironmentCache.Environment environment = cache.get().acquire("python", keys, directory -> {
+            // pip read the configuration from the virtualenv directory
+            if (pipConfContent != null) {
+                Files.writeString(directory.resolve("pip.conf"), pipConfContent);
+            }
+
+            List<String> commands = new ArrayList<>();
+            commands.add("set -o errexit");
+            commands.addAll(this.virtualEnvCommands(directory.toString(), requirementsAsString));
+
+            ScriptEnvironmentCache.execute(directory, env, commands);
+        });
+
+        try {
+            ScriptEnvironmentCache.link(environment, workingDirectory);
+        } catch (IOException e) {
+            environment.close();
+            throw e;
+        }
+
+        return environment;
+    }
+
     @Override
     protected Map<String, String> finalEnv() throws IOException {
         Map<String, String> env = super.finalEnv();
@@ -14,8 +14,10 @@ import io.kestra.core.runners.RunContext;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static io.kestra.core.utils.Rethrow.throwFunction;
 import static io.kestra.core.utils.Rethrow.throwSupplier;
@@ -84,6 +86,8 @@ import static io.kestra.core.utils.Rethrow.throwSupplier;
     }
 )
 public class Node extends AbstractBash implements RunnableTask<ScriptOutput> {
+    private static final List<String> PACKAGE_FILES = Arrays.asList("package.json", "package-lock.json", ".npmrc");
+
     @Builder.Default
     @Schema(
         title = "The node interpreter to use",
@@ -126,25 +130,86 @@ public class Node extends AbstractBash implements RunnableTask<ScriptOutput> {
             throw new Exception("Invalid input files structure, expecting inputFiles property to contain at least a main.js key with javascript code value.");
         }
 
-        return run(runContext, throwSupplier(() -> {
-            // final command
-            List<String> renderer = new ArrayList<>();
+        AtomicReference<ScriptEnvironmentCache.Environment> environment = new AtomicReference<>();
+
+        try {
+            return run(runContext, throwSupplier(() -> {
+                // final command
+                List<String> renderer = new ArrayList<>();
+
+                if (this.exitOnFailed) {
+                    renderer.add("set -o errexit");
+                }
+
+                String args = getArgs() == null ? "" : " " + runContext.render(String.join(" ", getArgs()));
+
+                String npmInstall = "";
+                if (finalInputFiles.containsKey("package.json")) {
+                    environment.set(this.cachedNodeModules(runContext));
+                    npmInstall = environment.get() == null ? npmPath + " i > /dev/null" : "";
+                }
 
-            if (this.exitOnFailed) {
-                renderer.add("set -o errexit");
+                renderer.addAll(Arrays.asList(
+                    "PATH=\"$PATH:" + new File(nodePath).getParent() + "\"",
+                    npmInstall,
+                    nodePath + " main.js" + args
+                ));
+
+                return String.join("\n", renderer);
+            }));
+        } finally {
+            if (environment.get() != null) {
+                environment.get().close();
             }
+        }
+    }
 
-            String args = getArgs() == null ? "" : " " + runContext.render(String.join(" ", getArgs()));
+    /**
+     * Link the {@code node_modules} from the {@link ScriptEnvironmentCache} on the working directory, the modules are
+     * only installed if no task already installed them with the same node, npm &amp; package files.
+     *
+     * @return the environment to close at the end of the task, or {@code null} if the cache is not available
+     */
+    private ScriptEnvironmentCache.Environment cachedNodeModules(RunContext runContext) throws Exception {
+        Optional<ScriptEnvironmentCache> cache = runContext.getApplicationContext().findBean(ScriptEnvironmentCache.class);
+
+        // with docker, the modules must be installed inside the container
+        if (cache.isEmpty() || this.runner != Runner.PROCESS) {
+            return null;
+        }
 
-            String npmInstall = finalInputFiles.containsKey("package.json") ? npmPath + " i > /dev/null" : "";
+        Map<String, String> packageFiles = new TreeMap<>();
+        for (String name : PACKAGE_FILES) {
+            Path file = workingDirectory.resolve(name);
+            if (Files.exists(file)) {
+                packageFiles.put(name, Files.readString(file));
+            }
+        }
+
+        List<String> keys = new ArrayList<>(Arrays.asList(this.nodePath, this.npmPath));
+        packageFiles.forEach((name, content) -> keys.add(name + "=" + content));
+
+        Map<String, String> env = this.finalEnv();
 
-            renderer.addAll(Arrays.asList(
+        ScriptEnvironmentCache.Environment environment = cache.get().acquire("node", keys, directory -> {
+            for (Map.Entry<String, String> entry : packageFiles.entrySet()) {
+                Files.writeString(directory.resolve(entry.getKey()), entry.getValue());
+            }
+
+            ScriptEnvironmentCache.execute(directory, env, Arrays.asList(
+                "set -o errexit",
                 "PATH=\"$PATH:" + new File(nodePath).getParent() + "\"",
-                npmInstall,
-                nodePath + " main.js" + args
+                npmPath + " i > /dev/null"
             ));
+        });
+
+        try {
+            ScriptEnvironmentCache.link(environment, workingDirectory);
+        } catch (IOException e) {
+            environment.close();
+            throw e;
+        }
 
-            return String.join("\n", renderer);
-        }));
+        return environment;
     }
 }
@@ -16,6 +16,7 @@ import io.kestra.core.runners.RunContext;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 
@@ -124,21 +125,33 @@ public class Python extends AbstractPython implements RunnableTask<ScriptOutput>
             throw new Exception("Invalid input files structure, expecting inputFiles property to contain at least a main.py key with python code value.");
         }
 
-        return run(runContext, throwSupplier(() -> {
-            List<String> renderer = new ArrayList<>();
-            if (this.virtualEnv) {
-                renderer.add(this.virtualEnvCommand(runContext, requirements));
-            } else if (this.exitOnFailed) {
-                renderer.add("set -o errexit");
-            }
+        AtomicReference<ScriptEnvironmentCache.Environment> environment = new AtomicReference<>();
 
-            for (String command : commands) {
-                String argsString = args == null ? "" : " " + runContext.render(String.join(" ", args), additionalVars);
+        try {
+            return run(runContext, throwSupplier(() -> {
+                List<String> renderer = new ArrayList<>();
+                if (this.virtualEnv) {
+                    environment.set(this.cachedVirtualEnv(runContext, requirements));
+                }
 
-                renderer.add(runContext.render(command, additionalVars) + argsString);
-            }
+                if (this.virtualEnv && environment.get() == null) {
+                    renderer.add(this.virtualEnvCommand(runContext, requirements));
+                } else if (this.exitOnFailed) {
+                    renderer.add("set -o errexit");
+                }
+
+                for (String command : commands) {
+                    String argsString = args == null ? "" : " " + runContext.render(String.join(" ", args), additionalVars);
 
-            return String.join("\n", renderer);
-        }));
+                    renderer.add(runContext.render(command, additionalVars) + argsString);
+                }
+
+                return String.join("\n", renderer);
+            }));
+        } finally {
+            if (environment.get() != null) {
+                environment.get().close();
+            }
+        }
     }
 }
@@ -0,0 +1,276 @@
+package io.kestra.core.tasks.scripts;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import io.kestra.core.metrics.MetricRegistry;
+import io.micronaut.context.annotation.ConfigurationProperties;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.core.convert.format.ReadableBytesTypeConverter;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Worker local cache of the environments (python virtualenv, node modules, ...) used by the script tasks.
+ * An environment is identified by a hash of everything used to build it, it's built once and then shared by all the
+ * tasks that need the same one. The least recently used environments are deleted when the cache is over its size.
+ * The cache directory must not be shared between workers.
+ */
+@Singleton
+@Requires(property = "kestra.tasks.scripts.cache.enabled", value = "true")
+@Slf4j
+public class ScriptEnvironmentCache {
+    private static final String READY = ".kestra-ready";
+
+    private final MetricRegistry metricRegistry;
+
+    private final Path path;
+
+    private final long maxSize;
+
+    private final Map<String, Object> locks = new ConcurrentHashMap<>();
+
+    private final Map<String, AtomicInteger> used = new ConcurrentHashMap<>();
+
+    @Inject
+    public ScriptEnvironmentCache(MetricRegistry metricRegistry, EnvironmentCacheConfiguration configuration) throws IOException {
+        this.metricRegistry = metricRegistry;
+        this.path = Path.of(configuration.getPath());
+        this.maxSize = new ReadableBytesTypeConverter()
+            .convert(configuration.getMaxSize(), Number.class)
+            .orElseThrow(() -> new IllegalArgumentException("Invalid size with value '" + configuration.getMaxSize() + "'"))
+            .longValue();
+
+        Files.createDirectories(this.path);
+    }
+
+    /**
+     * Get the environment matching the keys, building it if needed.
+     * The environment can't be evicted until the returned {@link Environment} is closed.
+     *
+     * @param type the type of environment, ie: {@code python}
+     * @param keys everything that is used to build the environment
+     * @param builder the builder that create the environment on the given directory
+     * @return the environment, to be closed at the end of the task
+     */
+    public Environment acquire(String type, List<String> keys, EnvironmentBuilder builder) throws Exception {
+        String name = type + "-" + hash(type, keys);
+        Path directory = this.path.resolve(name);
+        Path ready = directory.resolve(READY);
+
+        this.used.computeIfAbsent(name, s -> new AtomicInteger()).incrementAndGet();
+
+        try {
+            synchronized (this.lock(name)) {
+                if (Files.exists(ready)) {
+                    this.metricRegistry.counter(MetricRegistry.SCRIPT_ENVIRONMENT_CACHE_HIT_COUNT, "type", type).increment();
+                    Files.setLastModifiedTime(ready, FileTime.from(Instant.now()));
+                } else {
+                    this.metricRegistry.counter(MetricRegistry.SCRIPT_ENVIRONMENT_CACHE_MISS_COUNT, "type", type).increment();
+                    this.build(type, directory, builder);
+                }
+            }
+
+            this.evict();
+        } catch (Exception e) {
+            this.release(name);
+            throw e;
+        }
+
+        return new Environment(name, directory);
+    }
+
+    private void build(String type, Path directory, EnvironmentBuilder builder) throws Exception {
+        // remaining of a previous failed build
+        FileUtils.deleteDirectory(directory.toFile());
+        Files.createDirectories(directory);
+
+        long start = System.nanoTime();
+
+        try {
+            builder.build(directory);
+        } catch (Exception e) {
+            FileUtils.deleteQuietly(directory.toFile());
+            throw e;
+        }
+
+        // the ready file is written last and contains the size of the environment
+        Files.writeString(directory.resolve(READY), String.valueOf(FileUtils.sizeOfDirectory(directory.toFile())));
+
+        this.metricRegistry
+            .timer(MetricRegistry.SCRIPT_ENVIRONMENT_CACHE_BUILD_DURATION, "type", type)
+            .record(Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private synchronized void evict() throws IOException {
+        List<Entry> entries;
+        try (Stream<Path> list = Files.list(this.path)) {
+            entries = list
+                .filter(directory -> Files.exists(directory.resolve(READY)))
+                .map(Entry::of)
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparing(Entry::getLastAccess))
+                .collect(Collectors.toList());
+        }
+
+        long size = entries.stream().mapToLong(Entry::getSize).sum();
+
+        for (Entry entry : entries) {
+            if (size <= this.maxSize) {
+                return;
+            }
+
+            String name = entry.getDirectory().getFileName().toString();
+
+            synchronized (this.lock(name)) {
+                AtomicInteger count = this.used.get(name);
+
+                if (count != null && count.get() > 0) {
+                    continue;
+                }
+
+                Files.deleteIfExists(entry.getDirectory().resolve(READY));
+                FileUtils.deleteQuietly(entry.getDirectory().toFile());
+            }
+
+            size = size - entry.getSize();
+            this.metricRegistry.counter(MetricRegistry.SCRIPT_ENVIRONMENT_CACHE_EVICTED_COUNT).increment();
+        }
+
+        if (size > this.maxSize) {
+            log.warn("Script environment cache size is {} bytes, over the {} bytes limit, all environments are in use", size, this.maxSize);
+        }
+    }
+
+    private void release(String name) {
+        AtomicInteger count = this.used.get(name);
+
+        if (count != null) {
+            count.decrementAndGet();
+        }
+    }
+
+    private Object lock(String name) {
+        return this.locks.computeIfAbsent(name, s -> new Object());
+    }
+
+    private static String hash(String type, List<String> keys) {
+        Hasher hasher = Hashing.sha256().newHasher();
+        hasher.putString(type, StandardCharsets.UTF_8);
+
+        keys.forEach(key -> hasher
+            .putChar('\0')
+            .putString(key == null ? "" : key, StandardCharsets.UTF_8)
+        );
+
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Run some shell commands on the environment directory, failing with the command output if the exit code is not 0.
+     *
+     * @param directory the environment directory
+     * @param env additional environment variables
+     * @param commands the commands to run
+     */
+    public static void execute(Path directory, Map<String, String> env, List<String> commands) throws IOException, InterruptedException {
+        ProcessBuilder processBuilder = new ProcessBuilder("/bin/sh", "-c", String.join("\n", commands))
+            .directory(directory.toFile())
+            .redirectErrorStream(true);
+
+        processBuilder.environment().putAll(env);
+
+        Process process = processBuilder.start();
+        String output = IOUtils.toString(process.getInputStream(), StandardCharsets.UTF_8);
+
+        int exitCode = process.waitFor();
+        if (exitCode != 0) {
+            throw new IOException("Unable to build environment, command failed with code " + exitCode + ":\n" + output);
+        }
+    }
+
+    /**
+     * Link all the files of the environment on the working directory, except the ones already present.
+     *
+     * @param environment the environment to link
+     * @param workingDirectory the task working directory
+     */
+    public static void link(Environment environment, Path workingDirectory) throws IOException {
+        try (Stream<Path> list = Files.list(environment.getPath())) {
+            for (Path file : list.collect(Collectors.toList())) {
+                Path target = workingDirectory.resolve(file.getFileName().toString());
+
+                if (!file.getFileName().toString().equals(READY) && !Files.exists(target, LinkOption.NOFOLLOW_LINKS)) {
+                    Files.createSymbolicLink(target, file);
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface EnvironmentBuilder {
+        void build(Path directory) throws Exception;
+    }
+
+    @Getter
+    public class Environment implements AutoCloseable {
+        private final String name;
+        private final Path path;
+
+        private Environment(String name, Path path) {
+            this.name = name;
+            this.path = path;
+        }
+
+        @Override
+        public void close() {
+            ScriptEnvironmentCache.this.release(this.name);
+        }
+    }
+
+    @lombok.Value
+    private static class Entry {
+        Path directory;
+        long size;
+        FileTime lastAccess;
+
+        private static Entry of(Path directory) {
+            Path ready = directory.resolve(READY);
+
+            try {
+                return new Entry(
+                    directory,
+                    Long.parseLong(Files.readString(ready).trim()),
+                    Files.getLastModifiedTime(ready)
+                );
+            } catch (IOException | NumberFormatException e) {
+                // deleted or being built
+                return null;
+            }
+        }
+    }
+
+    @Getter
+    @ConfigurationProperties("kestra.tasks.scripts.cache")
+    public static class EnvironmentCacheConfiguration {
+        String path = Path.of(System.getProperty("java.io.tmpdir"), "kestra-script-cache").toString();
+        String maxSize = "5GB";
+    }
+}
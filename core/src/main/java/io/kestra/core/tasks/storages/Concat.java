@@ -5,22 +5,23 @@ import io.kestra.core.serializers.JacksonMapper;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
-import org.apache.commons.io.IOUtils;
 import io.kestra.core.models.annotations.Example;
 import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.annotations.PluginProperty;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.models.tasks.Task;
 import io.kestra.core.runners.RunContext;
+import io.kestra.core.utils.IdUtils;
+import org.apache.commons.io.IOUtils;
 
-import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-
-import static io.kestra.core.utils.Rethrow.throwConsumer;
 
 @SuperBuilder
 @ToString
@@ -101,37 +102,55 @@ public class Concat extends Task implements RunnableTask<Concat.Output> {
     @SuppressWarnings("unchecked")
     @Override
     public Concat.Output run(RunContext runContext) throws Exception {
-        File tempFile = runContext.tempFile().toFile();
-        try (FileOutputStream fileOutputStream = new FileOutputStream(tempFile)) {
-            List<String> finalFiles;
-            if (this.files instanceof List) {
-                finalFiles = (List<String>) this.files;
-            } else if (this.files instanceof String) {
-                final TypeReference<List<String>> reference = new TypeReference<>() {};
+        List<String> finalFiles;
+        if (this.files instanceof List) {
+            finalFiles = (List<String>) this.files;
+        } else if (this.files instanceof String) {
+            final TypeReference<List<String>> reference = new TypeReference<>() {};
 
-                finalFiles = JacksonMapper.ofJson(false).readValue(
-                    runContext.render((String) this.files),
-                    reference
-                );
-            } else {
-                throw new Exception("Invalid `files` properties with type '" + this.files.getClass() + "'");
-            }
-
-            finalFiles.forEach(throwConsumer(s -> {
-                URI from = new URI(runContext.render(s));
-                IOUtils.copyLarge(runContext.uriToInputStream(from), fileOutputStream);
+            finalFiles = JacksonMapper.ofJson(false).readValue(
+                runContext.render((String) this.files),
+                reference
+            );
+        } else {
+            throw new Exception("Invalid `files` properties with type '" + this.files.getClass() + "'");
+        }
 
-                if (separator != null) {
-                    IOUtils.copy(new ByteArrayInputStream(this.separator.getBytes()), fileOutputStream);
-                }
-            }));
+        List<URI> uris = new ArrayList<>();
+        for (String file : finalFiles) {
+            uris.add(new URI(runContext.render(file)));
         }
 
+        // without separator, the files are composed by the storage without being read
+        URI uri = this.separator == null ?
+            runContext.compose(uris, IdUtils.create() + ".tmp") :
+            this.concatWithSeparator(runContext, uris);
+
         return Concat.Output.builder()
-            .uri(runContext.putTempFile(tempFile))
+            .uri(uri)
             .build();
     }
 
+    /**
+     * The files are copied on a local file, with the separator appended after each file.
+     */
+    private URI concatWithSeparator(RunContext runContext, List<URI> uris) throws Exception {
+        byte[] separator = this.separator.getBytes(StandardCharsets.UTF_8);
+        File tempFile = runContext.tempFile().toFile();
+
+        try (OutputStream outputStream = new FileOutputStream(tempFile)) {
+            for (URI uri : uris) {
+                try (InputStream inputStream = runContext.uriToInputStream(uri)) {
+                    IOUtils.copyLarge(inputStream, outputStream);
+                }
+
+                outputStream.write(separator);
+            }
+        }
+
+        return runContext.putTempFile(tempFile);
+    }
+
     @Builder
     @Getter
     public static class Output implements io.kestra.core.models.tasks.Output {
@@ -5,7 +5,9 @@ import io.kestra.core.models.annotations.Plugin;
 import io.kestra.core.models.annotations.PluginProperty;
 import io.kestra.core.models.tasks.RunnableTask;
 import io.kestra.core.models.tasks.Task;
+import io.kestra.core.runners.FileCopyExecutor;
 import io.kestra.core.runners.RunContext;
+import io.kestra.core.utils.Rethrow;
 import io.micronaut.core.convert.format.ReadableBytesTypeConverter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
@@ -14,10 +16,12 @@ import lombok.experimental.SuperBuilder;
 import java.io.*;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
@@ -58,6 +62,8 @@ import static io.kestra.core.utils.Rethrow.throwFunction;
     }
 )
 public class Split extends Task implements RunnableTask<Split.Output> {
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
     @Schema(
         title = "The file to be splitted."
     )
@@ -85,7 +91,8 @@ public class Split extends Task implements RunnableTask<Split.Output> {
     private Integer rows;
 
     @Schema(
-        title = "The separator to used between rows"
+        title = "The separator to used between rows",
+        description = "With the default new line separator, splitting by `bytes` or `rows` copy the rows as is, keeping their line ending."
     )
     @PluginProperty(dynamic = false)
     @Builder.Default
@@ -95,33 +102,178 @@ public class Split extends Task implements RunnableTask<Split.Output> {
     public Split.Output run(RunContext runContext) throws Exception {
         URI from = new URI(runContext.render(this.from));
 
-        BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(runContext.uriToInputStream(from)));
-
-        List<Path> splited;
+        List<URI> splited;
 
         if (this.bytes != null) {
             ReadableBytesTypeConverter readableBytesTypeConverter = new ReadableBytesTypeConverter();
             Number convert = readableBytesTypeConverter.convert(this.bytes, Number.class)
                 .orElseThrow(() -> new IllegalArgumentException("Invalid size with value '" + this.bytes + "'"));
 
-            splited = split(runContext, bufferedReader, (bytes, size) -> bytes >= convert.longValue());
+            if (this.isNewLineSeparator()) {
+                splited = this.splitByRanges(runContext, from, channel -> sizeBoundaries(channel, convert.longValue()));
+            } else {
+                splited = this.upload(runContext, split(runContext, this.reader(runContext, from), (bytes, size) -> bytes >= convert.longValue()));
+            }
         } else if (this.partitions != null) {
-            splited = partition(runContext, bufferedReader, this.partitions);
+            splited = this.upload(runContext, partition(runContext, from, this.partitions));
         } else if (this.rows != null) {
-            splited = split(runContext, bufferedReader, (bytes, size) -> size >= this.rows);
+            if (this.isNewLineSeparator()) {
+                splited = this.splitByRanges(runContext, from, channel -> rowBoundaries(channel, this.rows));
+            } else {
+                splited = this.upload(runContext, split(runContext, this.reader(runContext, from), (bytes, size) -> size >= this.rows));
+            }
         } else {
             throw new IllegalArgumentException("Invalid configuration with no size, count, nor rows");
         }
 
         return Split.Output.builder()
-            .uris(splited
-                .stream()
-                .map(throwFunction(path -> runContext.putTempFile(path.toFile())))
-                .collect(Collectors.toList())
-            )
+            .uris(splited)
             .build();
     }
 
+    private boolean isNewLineSeparator() {
+        return "\n".equals(this.separator);
+    }
+
+    private BufferedReader reader(RunContext runContext, URI from) throws IOException {
+        return new BufferedReader(new InputStreamReader(runContext.uriToInputStream(from)));
+    }
+
+    private List<URI> upload(RunContext runContext, List<Path> paths) {
+        return paths
+            .stream()
+            .map(throwFunction(path -> runContext.putTempFile(path.toFile())))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Since rows are separated by a new line, the files are only byte ranges of the source aligned on new lines: the
+     * boundaries are found with a scan of the source and each range is copied with a {@link FileChannel#transferTo}
+     * in parallel. The last row is always ended with a new line.
+     */
+    private List<URI> splitByRanges(RunContext runContext, URI from, Rethrow.FunctionChecked<FileChannel, List<Long>, IOException> boundaries) throws Exception {
+        Path source = runContext.tempFile();
+
+        try (InputStream inputStream = runContext.uriToInputStream(from)) {
+            Files.copy(inputStream, source, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            List<Long> ends = boundaries.apply(channel);
+
+            if (ends.isEmpty()) {
+                return List.of();
+            }
+
+            ByteBuffer last = ByteBuffer.allocate(1);
+            channel.read(last, channel.size() - 1);
+            boolean endWithNewLine = last.get(0) == '\n';
+
+            List<Callable<URI>> copies = new ArrayList<>();
+            long start = 0;
+            for (int i = 0; i < ends.size(); i++) {
+                long position = start;
+                long end = ends.get(i);
+                boolean appendNewLine = i == ends.size() - 1 && !endWithNewLine;
+
+                copies.add(() -> runContext.putTempFile(copyRange(runContext, channel, position, end, appendNewLine).toFile()));
+                start = end;
+            }
+
+            // the copies of all the splits running on this worker share the same pool
+            return runContext.getApplicationContext().getBean(FileCopyExecutor.class).invokeAll(copies);
+        } finally {
+            Files.deleteIfExists(source);
+        }
+    }
+
+    private static Path copyRange(RunContext runContext, FileChannel channel, long start, long end, boolean appendNewLine) throws IOException {
+        Path path = runContext.tempFile();
+
+        try (FileChannel out = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            long position = start;
+            while (position < end) {
+                position += channel.transferTo(position, end - position, out);
+            }
+
+            if (appendNewLine) {
+                out.write(ByteBuffer.wrap(new byte[]{'\n'}));
+            }
+        }
+
+        return path;
+    }
+
+    /**
+     * A file ends with the first row that reach the size, so at the first new line after {@code start + size - 1}.
+     */
+    private static List<Long> sizeBoundaries(FileChannel channel, long size) throws IOException {
+        List<Long> boundaries = new ArrayList<>();
+        long length = channel.size();
+        long start = 0;
+
+        while (start < length) {
+            long end = nextLine(channel, start + Math.max(size, 1) - 1, length);
+            boundaries.add(end);
+            start = end;
+        }
+
+        return boundaries;
+    }
+
+    private static long nextLine(FileChannel channel, long position, long length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+
+        while (position < length) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+
+            position = position + read;
+        }
+
+        return length;
+    }
+
+    private static List<Long> rowBoundaries(FileChannel channel, int rows) throws IOException {
+        List<Long> boundaries = new ArrayList<>();
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        long length = channel.size();
+        long position = 0;
+        int count = 0;
+
+        while (position < length) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n' && ++count >= rows) {
+                    boundaries.add(position + i + 1);
+                    count = 0;
+                }
+            }
+
+            position = position + read;
+        }
+
+        if (boundaries.isEmpty() ? length > 0 : boundaries.get(boundaries.size() - 1) < length) {
+            boundaries.add(length);
+        }
+
+        return boundaries;
+    }
+
     public List<Path> split(RunContext runContext, BufferedReader bufferedReader, BiFunction<Integer, Integer, Boolean> predicate) throws IOException {
         List<Path> files = new ArrayList<>();
         RandomAccessFile write = null;
@@ -158,26 +310,77 @@ public class Split extends Task implements RunnableTask<Split.Output> {
         return files;
     }
 
-    public List<Path> partition(RunContext runContext, BufferedReader bufferedReader, int partition) throws IOException {
+    /**
+     * Dispatch the rows round-robin on the partitions, the rows are copied as bytes through buffered streams.
+     */
+    public List<Path> partition(RunContext runContext, URI from, int partition) throws IOException {
         List<Path> files = new ArrayList<>();
-        List<RandomAccessFile> writers = new ArrayList<>();
+        List<OutputStream> writers = new ArrayList<>();
+        byte[] separator = this.separator.getBytes(StandardCharsets.UTF_8);
+
+        // bound the memory used by the buffers when there is a lot of partitions
+        int bufferSize = Math.max(8 * 1024, Math.min(BUFFER_SIZE, 64 * 1024 * 1024 / partition));
 
         for (int i = 0; i < partition; i++) {
             Path path = runContext.tempFile();
             files.add(path);
 
-            writers.add(new RandomAccessFile(path.toFile(), "rw"));
+            writers.add(new BufferedOutputStream(Files.newOutputStream(path), bufferSize));
         }
 
-        String row;
-        int index = 0;
-        while ((row = bufferedReader.readLine()) != null) {
-            writers.get(index).getChannel().write(ByteBuffer.wrap((row + this.separator).getBytes(StandardCharsets.UTF_8)));
+        try (InputStream inputStream = runContext.uriToInputStream(from)) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int index = 0;
+            boolean hasRow = false;
+            boolean pendingCarriageReturn = false;
+            int read;
 
-            index = index >= writers.size() - 1 ? 0 : index + 1;
-        }
+            while ((read = inputStream.read(buffer)) != -1) {
+                int start = 0;
+
+                for (int i = 0; i < read; i++) {
+                    if (buffer[i] != '\n') {
+                        continue;
+                    }
+
+                    // like readLine, a \r\n is a single new line
+                    int end = i > 0 && buffer[i - 1] == '\r' ? i - 1 : i;
+                    if (pendingCarriageReturn && i > 0) {
+                        writers.get(index).write('\r');
+                    }
+
+                    writers.get(index).write(buffer, start, Math.max(end - start, 0));
+                    writers.get(index).write(separator);
+
+                    index = index >= writers.size() - 1 ? 0 : index + 1;
+                    start = i + 1;
+                    hasRow = false;
+                    pendingCarriageReturn = false;
+                }
+
+                if (start < read) {
+                    if (pendingCarriageReturn) {
+                        writers.get(index).write('\r');
+                    }
+
+                    // a \r at the end of the buffer can be the start of a \r\n
+                    pendingCarriageReturn = buffer[read - 1] == '\r';
+                    writers.get(index).write(buffer, start, read - start - (pendingCarriageReturn ? 1 : 0));
+                    hasRow = true;
+                }
+            }
 
-        writers.forEach(throwConsumer(RandomAccessFile::close));
+            // last row without new line
+            if (hasRow) {
+                if (pendingCarriageReturn) {
+                    writers.get(index).write('\r');
+                }
+
+                writers.get(index).write(separator);
+            }
+        } finally {
+            writers.forEach(throwConsumer(OutputStream::close));
+        }
 
         return files;
     }
@@ -0,0 +1,142 @@
+package io.kestra.core.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.kestra.core.serializers.JacksonMapper;
+import net.thisptr.jackson.jq.BuiltinFunctionLoader;
+import net.thisptr.jackson.jq.JsonQuery;
+import net.thisptr.jackson.jq.Output;
+import net.thisptr.jackson.jq.Scope;
+import net.thisptr.jackson.jq.Versions;
+import net.thisptr.jackson.jq.exception.JsonQueryException;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Shared jq evaluation for the pebble filter and the handlebars helper.
+ * The builtin functions are loaded once on a root scope that is never modified, each evaluation uses a child scope.
+ * Compiled queries and parsed json inputs are cached since the same expressions are evaluated on the same values
+ * again and again (ie: each tasks values or outputs used by many tasks).
+ */
+public class JqUtils {
+    private static final ObjectMapper MAPPER = JacksonMapper.ofJson();
+
+    private static final Scope SCOPE;
+
+    static {
+        SCOPE = Scope.newEmptyScope();
+        BuiltinFunctionLoader.getInstance().loadFunctions(Versions.JQ_1_6, SCOPE);
+    }
+
+    private static final Cache<String, JsonQuery> QUERIES = CacheBuilder.newBuilder()
+        .maximumSize(1000)
+        .build();
+
+    public static final long DEFAULT_INPUTS_MAX_MEMORY = 32 * 1024 * 1024;
+
+    private static final int NODE_OVERHEAD = 48;
+    private static final int BYTES_PER_CHAR = 2;
+
+    // parsed string inputs, bounded by an estimation of the memory used by the json strings and trees
+    private static volatile InputsCache INPUTS = new InputsCache(DEFAULT_INPUTS_MAX_MEMORY);
+
+    /**
+     * Replace the parsed inputs cache, see {@code kestra.variables.jq-cache-max-memory}.
+     *
+     * @param maximumMemory the maximum memory used by the cached inputs in bytes, 0 to disable the cache
+     */
+    public static void configureInputsCache(long maximumMemory) {
+        INPUTS = new InputsCache(maximumMemory);
+    }
+
+    public static JsonQuery compile(String expression) throws JsonQueryException {
+        try {
+            return QUERIES.get(expression, () -> JsonQuery.compile(expression, Versions.JQ_1_6));
+        } catch (Exception e) {
+            // we compile again in order to let the exception be thrown instead of being capture by cache
+            return JsonQuery.compile(expression, Versions.JQ_1_6);
+        }
+    }
+
+    /**
+     * @param input a json string or any value that can be converted to json
+     * @return the json tree of the input, must not be modified since it can be shared
+     */
+    public static JsonNode toJsonNode(Object input) throws IOException {
+        if (!(input instanceof String)) {
+            return MAPPER.valueToTree(input);
+        }
+
+        String json = (String) input;
+        InputsCache inputs = INPUTS;
+
+        // a large input would evict all the others, it's not cached
+        if ((long) json.length() * BYTES_PER_CHAR > inputs.maxEntryWeight) {
+            return MAPPER.readTree(json);
+        }
+
+        try {
+            return inputs.cache.get(json, () -> MAPPER.readTree(json));
+        } catch (Exception e) {
+            // same as above, the parsing exception must be thrown as is
+            return MAPPER.readTree(json);
+        }
+    }
+
+    public static void apply(String expression, JsonNode input, Output output) throws JsonQueryException {
+        compile(expression).apply(Scope.newChildScope(SCOPE), input, output);
+    }
+
+    /**
+     * Rough estimation of the memory used by an input: the json string kept as key, a fixed overhead for each node
+     * and field, and the strings of the field names and text values.
+     */
+    static long weight(String json, JsonNode node) {
+        long weight = (long) json.length() * BYTES_PER_CHAR;
+
+        Deque<JsonNode> nodes = new ArrayDeque<>();
+        nodes.push(node);
+
+        while (!nodes.isEmpty()) {
+            JsonNode current = nodes.pop();
+            weight += NODE_OVERHEAD;
+
+            if (current.isTextual()) {
+                weight += (long) current.textValue().length() * BYTES_PER_CHAR;
+            } else if (current.isObject()) {
+                for (Iterator<Map.Entry<String, JsonNode>> fields = current.fields(); fields.hasNext(); ) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    weight += NODE_OVERHEAD + (long) field.getKey().length() * BYTES_PER_CHAR;
+                    nodes.push(field.getValue());
+                }
+            } else if (current.isArray()) {
+                current.elements().forEachRemaining(nodes::push);
+            }
+        }
+
+        return weight;
+    }
+
+    private static class InputsCache {
+        private final Cache<String, JsonNode> cache;
+        private final long maxEntryWeight;
+
+        private InputsCache(long maximumMemory) {
+            this.cache = CacheBuilder.newBuilder()
+                .maximumWeight(maximumMemory)
+                .<String, JsonNode>weigher((key, value) -> (int) Math.min(Integer.MAX_VALUE, weight(key, value)))
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+
+            // a single input can't use more than a tenth of the cache
+            this.maxEntryWeight = maximumMemory / 10;
+        }
+    }
+}
@@ -5,12 +5,15 @@ import com.cronutils.model.CronType;
 import com.cronutils.model.definition.CronDefinitionBuilder;
 import com.cronutils.parser.CronParser;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.services.FlowExpressionService;
 import io.micronaut.context.annotation.Factory;
 import io.micronaut.validation.validator.constraints.ConstraintValidator;
 
 import java.io.IOException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.List;
 import jakarta.inject.Singleton;
 
 @Factory
@@ -91,5 +94,23 @@ public class ValidationFactory {
             return true;
         };
     }
-}
 
+    @Singleton
+    ConstraintValidator<FlowExpressions, Flow> flowExpressionsValidator(FlowExpressionService flowExpressionService) {
+        return (value, annotationMetadata, context) -> {
+            if (value == null) {
+                return true;
+            }
+
+            List<String> errors = flowExpressionService.compile(value);
+
+            if (!errors.isEmpty()) {
+                context.messageTemplate("invalid flow expressions: " + String.join(", ", errors));
+
+                return false;
+            }
+
+            return true;
+        };
+    }
+}
@@ -3,9 +3,13 @@ package io.kestra.core.models.executions;
 import org.junit.jupiter.api.Test;
 import io.kestra.core.models.flows.State;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 
 class ExecutionTest {
@@ -124,4 +128,38 @@ class ExecutionTest {
             .build()
         ), is(true));
     }
+
+    @Test
+    void indexedLookups() throws Exception {
+        TaskRun parent = TaskRun.builder().id("parent").taskId("each").state(new State()).build();
+        TaskRun first = TaskRun.builder().id("first").taskId("child").parentTaskRunId("parent").value("a").state(new State()).build();
+
+        Execution execution = Execution.builder()
+            .id("execution")
+            .state(new State())
+            .taskRunList(List.of(parent, first))
+            .build();
+
+        assertThat(execution.findChilds(first), contains(parent));
+
+        // append after the index is built
+        TaskRun second = TaskRun.builder().id("second").taskId("child").parentTaskRunId("first").value("b").state(new State()).build();
+        ArrayList<TaskRun> taskRuns = new ArrayList<>(execution.getTaskRunList());
+        taskRuns.add(second);
+        execution = execution.withTaskRunList(taskRuns);
+
+        assertThat(execution.findTaskRunsByTaskId("child"), contains(first, second));
+        assertThat(execution.findChilds(second), contains(parent, first));
+        assertThat(execution.findChildsValues(second, true), contains("a", "b"));
+        assertThat(execution.findTaskRunByTaskIdAndValue("child", List.of("a", "b")), is(second));
+
+        // replace keep the positions
+        TaskRun running = first.withState(State.Type.RUNNING);
+        Execution replaced = execution.withTaskRun(running);
+
+        assertThat(replaced.findTaskRunByTaskRunId("first"), is(running));
+        assertThat(replaced.findTaskRunsByTaskId("child"), contains(running, second));
+        assertThat(replaced.getTaskRunList(), hasSize(3));
+        assertThat(execution.findTaskRunByTaskRunId("first"), is(first));
+    }
 }
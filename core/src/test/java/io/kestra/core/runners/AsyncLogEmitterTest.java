@@ -0,0 +1,61 @@
+package io.kestra.core.runners;
+
+import io.kestra.core.models.executions.LogEntry;
+import io.kestra.core.queues.QueueFactoryInterface;
+import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.utils.Await;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+
+@MicronautTest
+@Property(name = "kestra.logs.async.enabled", value = "true")
+@Property(name = "kestra.logs.async.flush-interval", value = "50ms")
+class AsyncLogEmitterTest {
+    @Inject
+    @Named(QueueFactoryInterface.WORKERTASKLOG_NAMED)
+    QueueInterface<LogEntry> workerTaskLogQueue;
+
+    @Inject
+    AsyncLogEmitter asyncLogEmitter;
+
+    @Test
+    void emit() throws TimeoutException {
+        List<LogEntry> logs = new CopyOnWriteArrayList<>();
+        Runnable cancel = workerTaskLogQueue.receive(logEntry -> {
+            if ("async-emit".equals(logEntry.getExecutionId())) {
+                logs.add(logEntry);
+            }
+        });
+
+        Logger logger = new RunContextLogger(
+            workerTaskLogQueue,
+            asyncLogEmitter,
+            LogEntry.builder().flowId("async").executionId("async-emit").build()
+        ).logger();
+
+        logger.info("first");
+        logger.debug("second");
+        logger.warn("third");
+
+        Await.until(() -> logs.size() == 3, Duration.ofMillis(10), Duration.ofSeconds(5));
+        cancel.run();
+
+        assertThat(
+            logs.stream().map(LogEntry::getMessage).collect(Collectors.toList()),
+            contains("first", "second", "third")
+        );
+    }
+}
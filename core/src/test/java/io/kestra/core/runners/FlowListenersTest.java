@@ -9,13 +9,15 @@ import io.kestra.core.tasks.debugs.Return;
 import io.kestra.core.utils.IdUtils;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import jakarta.inject.Inject;
 
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.*;
 
 @MicronautTest(transactional = false)
 abstract public class FlowListenersTest {
@@ -39,8 +41,22 @@ abstract public class FlowListenersTest {
         flowListenersService.run();
 
         AtomicInteger count = new AtomicInteger();
+        List<Integer> snapshots = new CopyOnWriteArrayList<>();
+        List<String> changes = new CopyOnWriteArrayList<>();
         var ref = new Ref();
 
+        String firstId = "first_" + IdUtils.create();
+        String secondId = "second_" + IdUtils.create();
+
+        flowListenersService.listen(
+            flows -> snapshots.add(flows.size()),
+            (flow, previous) -> changes.add(
+                flow.getId().replace(firstId, "first").replace(secondId, "second") + ":" +
+                    (flow.isDeleted() ? "delete" : flow.getTasks().get(0).getId()) + ":" +
+                    (previous == null ? "none" : previous.getTasks().get(0).getId())
+            )
+        );
+
         flowListenersService.listen(flows -> {
             count.set(flows.size());
             ref.countDownLatch.countDown();
@@ -61,7 +77,7 @@ abstract public class FlowListenersTest {
         }
 
         // create first
-        Flow first = create("first_" + IdUtils.create(), "test");
+        Flow first = create(firstId, "test");
 
         flowRepository.create(first);
         wait(ref, () -> {
@@ -78,7 +94,7 @@ abstract public class FlowListenersTest {
         });
 
         // create a new one
-        flowRepository.create(create("second_" + IdUtils.create(), "test"));
+        flowRepository.create(create(secondId, "test"));
         wait(ref, () -> {
             assertThat(count.get(), is(2));
             assertThat(flowListenersService.flows().size(), is(2));
@@ -97,6 +113,17 @@ abstract public class FlowListenersTest {
             assertThat(count.get(), is(2));
             assertThat(flowListenersService.flows().size(), is(2));
         });
+
+        // snapshot is sent on registration (and again on each stream start for kafka), then only the changes with the previous version
+        assertThat(snapshots, not(empty()));
+        assertThat(snapshots, everyItem(is(0)));
+        assertThat(changes, contains(
+            "first:test:none",
+            "first:test2:test",
+            "second:test:none",
+            "first:delete:test2",
+            "first:test2:none"
+        ));
     }
 
     public static class Ref {
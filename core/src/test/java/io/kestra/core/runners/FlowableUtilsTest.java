@@ -0,0 +1,116 @@
+package io.kestra.core.runners;
+
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.TaskRun;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.models.tasks.ResolvedTask;
+import io.kestra.core.models.tasks.Task;
+import io.kestra.core.tasks.debugs.Return;
+import io.kestra.core.tasks.flows.EachSequential;
+import io.kestra.core.utils.IdUtils;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@MicronautTest
+class FlowableUtilsTest {
+    @Inject
+    RunContextFactory runContextFactory;
+
+    private static final List<Task> TASKS = Collections.singletonList(Return.builder()
+        .id("child")
+        .type(Return.class.getName())
+        .format("{{ taskrun.value }}")
+        .build()
+    );
+
+    private static TaskRun taskRun(String executionId, String taskId, String parentTaskRunId, String value, State state) {
+        return TaskRun.builder()
+            .id(IdUtils.create())
+            .executionId(executionId)
+            .namespace("io.kestra.unittest")
+            .flowId("each")
+            .taskId(taskId)
+            .parentTaskRunId(parentTaskRunId)
+            .value(value)
+            .state(state)
+            .build();
+    }
+
+    private static Execution execution(String id, List<TaskRun> taskRuns) {
+        return Execution.builder()
+            .id(id)
+            .namespace("io.kestra.unittest")
+            .flowId("each")
+            .flowRevision(1)
+            .taskRunList(taskRuns)
+            .state(new State().withState(State.Type.RUNNING))
+            .build();
+    }
+
+    @Test
+    void eachTasksCached() throws Exception {
+        RunContext runContext = runContextFactory.of();
+        String executionId = IdUtils.create();
+        TaskRun parent = taskRun(executionId, "each", null, null, new State().withState(State.Type.RUNNING));
+
+        List<ResolvedTask> resolved = FlowableUtils.resolveEachTasks(runContext, parent, TASKS, "[\"a\", \"b\", \"a\"]");
+        assertThat(resolved.size(), is(2));
+        assertThat(resolved.get(0).getValue(), is("a"));
+        assertThat(resolved.get(1).getValue(), is("b"));
+
+        // the value is not rendered again for the same parent task run
+        List<ResolvedTask> cached = FlowableUtils.resolveEachTasks(runContext, parent, TASKS, "[\"c\"]");
+        assertThat(cached, sameInstance(resolved));
+
+        // but it is for another one
+        TaskRun other = taskRun(executionId, "each", null, null, new State().withState(State.Type.RUNNING));
+        List<ResolvedTask> otherResolved = FlowableUtils.resolveEachTasks(runContext, other, TASKS, "[\"c\"]");
+        assertThat(otherResolved.size(), is(1));
+        assertThat(otherResolved.get(0).getValue(), is("c"));
+
+        FlowableUtils.evictEachTasks(parent);
+        FlowableUtils.evictEachTasks(other);
+    }
+
+    @Test
+    void eachTasksEvictedOnFinalState() throws Exception {
+        RunContext runContext = runContextFactory.of();
+        String executionId = IdUtils.create();
+        TaskRun parent = taskRun(executionId, "each", null, null, new State().withState(State.Type.RUNNING));
+
+        EachSequential each = EachSequential.builder()
+            .id("each")
+            .type(EachSequential.class.getName())
+            .value("[\"a\"]")
+            .tasks(TASKS)
+            .build();
+
+        List<ResolvedTask> resolved = each.childTasks(runContext, parent);
+        assertThat(resolved.size(), is(1));
+
+        // still running, the resolved tasks are kept
+        TaskRun child = taskRun(executionId, "child", parent.getId(), "a", new State().withState(State.Type.RUNNING));
+        Optional<State.Type> state = each.resolveState(runContext, execution(executionId, List.of(parent, child)), parent);
+        assertThat(state.isPresent(), is(false));
+        assertThat(FlowableUtils.resolveEachTasks(runContext, parent, TASKS, "[\"b\"]"), sameInstance(resolved));
+
+        // terminated, the resolved tasks are evicted and the value is rendered again
+        TaskRun success = child.withState(State.Type.SUCCESS);
+        state = each.resolveState(runContext, execution(executionId, List.of(parent, success)), parent);
+        assertThat(state, is(Optional.of(State.Type.SUCCESS)));
+
+        List<ResolvedTask> rendered = FlowableUtils.resolveEachTasks(runContext, parent, TASKS, "[\"b\"]");
+        assertThat(rendered, not(sameInstance(resolved)));
+        assertThat(rendered.get(0).getValue(), is("b"));
+
+        FlowableUtils.evictEachTasks(parent);
+    }
+}
@@ -0,0 +1,58 @@
+package io.kestra.core.runners;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class LazyVariablesTest {
+    @Test
+    void lazy() {
+        AtomicInteger computed = new AtomicInteger();
+
+        LazyVariables variables = LazyVariables.builder()
+            .put("flow", Map.of("id", "lazy"))
+            .putLazy("outputs", () -> {
+                computed.incrementAndGet();
+                return Map.of("task", "value");
+            })
+            .putLazy("parent", () -> null)
+            .build();
+
+        assertThat(variables.get("flow"), is(Map.of("id", "lazy")));
+        assertThat(computed.get(), is(0));
+
+        assertThat(variables.get("outputs"), is(Map.of("task", "value")));
+        assertThat(variables.get("outputs"), is(Map.of("task", "value")));
+        assertThat(computed.get(), is(1));
+
+        assertThat(variables.containsKey("parent"), is(false));
+        assertThat(variables.size(), is(2));
+    }
+
+    @Test
+    void copy() {
+        AtomicInteger computed = new AtomicInteger();
+
+        LazyVariables variables = LazyVariables.builder()
+            .putLazy("outputs", computed::incrementAndGet)
+            .put("task", Map.of("id", "first"))
+            .build();
+
+        LazyVariables copy = LazyVariables.builder()
+            .putAll(variables)
+            .put("task", Map.of("id", "second"))
+            .build();
+
+        assertThat(copy.get("task"), is(Map.of("id", "second")));
+        assertThat(computed.get(), is(0));
+
+        // memoized value is shared with the copy
+        assertThat(variables.get("outputs"), is(1));
+        assertThat(copy.get("outputs"), is(1));
+        assertThat(computed.get(), is(1));
+    }
+}
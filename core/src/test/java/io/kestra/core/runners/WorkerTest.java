@@ -22,6 +22,7 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
 import jakarta.inject.Inject;
@@ -73,6 +74,38 @@ class WorkerTest {
         assertThat(workerTaskResult.get().getTaskRun().getState().getHistories().size(), is(3));
     }
 
+    @Test
+    void maxInFlight() throws TimeoutException {
+        Worker worker = new Worker(applicationContext, 8, 1);
+        worker.run();
+
+        List<WorkerTaskResult> workerTaskResult = new CopyOnWriteArrayList<>();
+        workerTaskResultQueue.receive(workerTaskResult::add);
+
+        workerTaskQueue.emit(workerTask("2"));
+        workerTaskQueue.emit(workerTask("1"));
+
+        Await.until(
+            () -> workerTaskResult.stream().filter(r -> r.getTaskRun().getState().isTerninated()).count() == 2,
+            Duration.ofMillis(100),
+            Duration.ofMinutes(1)
+        );
+
+        // only one in flight, the second one is started after the first one ended
+        WorkerTaskResult first = workerTaskResult.stream()
+            .filter(r -> r.getTaskRun().getState().isTerninated())
+            .findFirst()
+            .orElseThrow();
+
+        WorkerTaskResult secondRunning = workerTaskResult.stream()
+            .filter(r -> !r.getTaskRun().getId().equals(first.getTaskRun().getId()))
+            .filter(r -> r.getTaskRun().getState().getCurrent() == State.Type.RUNNING)
+            .findFirst()
+            .orElseThrow();
+
+        assertThat(workerTaskResult.indexOf(secondRunning) > workerTaskResult.indexOf(first), is(true));
+    }
+
     @Test
     void killed() throws InterruptedException, TimeoutException {
         List<LogEntry> logs = new ArrayList<>();
@@ -138,6 +138,20 @@ class PebbleVariableRendererTest {
         assertThat(render, is("1"));
     }
 
+    @Test
+    void literal() throws IllegalVariableEvaluationException {
+        assertThat(VariableRenderer.isTemplate("a { literal } with # and %"), is(false));
+        assertThat(VariableRenderer.isTemplate("ends with {"), is(false));
+        assertThat(VariableRenderer.isTemplate("{ {{ first }}"), is(true));
+        assertThat(VariableRenderer.isTemplate("{% if true %}{% endif %}"), is(true));
+        assertThat(VariableRenderer.isTemplate("{# comment #}"), is(true));
+
+        assertThat(variableRenderer.render("{ \"json\": [1, 2] }", Map.of()), is("{ \"json\": [1, 2] }"));
+
+        // output is a json map, not rendered again
+        assertThat(variableRenderer.render("{{ map }}", Map.of("map", Map.of("a", Map.of("b", 1)))), is("{\"a\":{\"b\":1}}"));
+    }
+
     @Test
     void eval() throws IllegalVariableEvaluationException {
         ImmutableMap<String, Object> vars = ImmutableMap.of(
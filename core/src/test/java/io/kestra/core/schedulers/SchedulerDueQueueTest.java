@@ -0,0 +1,162 @@
+package io.kestra.core.schedulers;
+
+import io.kestra.core.models.conditions.ConditionContext;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.triggers.AbstractTrigger;
+import io.kestra.core.models.triggers.PollingTriggerInterface;
+import io.kestra.core.models.triggers.Trigger;
+import io.kestra.core.models.triggers.TriggerContext;
+import io.kestra.core.models.triggers.types.Schedule;
+import io.kestra.core.queues.QueueFactoryInterface;
+import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.runners.FlowListeners;
+import io.kestra.core.tasks.debugs.Return;
+import io.kestra.core.utils.Await;
+import io.kestra.core.utils.IdUtils;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.spy;
+
+class SchedulerDueQueueTest extends AbstractSchedulerTest {
+    @Inject
+    protected FlowListeners flowListenersService;
+
+    @Inject
+    protected SchedulerTriggerStateInterface triggerState;
+
+    @Inject
+    protected SchedulerExecutionStateInterface executionState;
+
+    @Inject
+    @Named(QueueFactoryInterface.FLOW_NAMED)
+    protected QueueInterface<Flow> flowQueue;
+
+    private static Flow flow(String id, int revision, AbstractTrigger trigger) {
+        return Flow.builder()
+            .id(id)
+            .namespace("io.kestra.unittest")
+            .revision(revision)
+            .triggers(List.of(trigger))
+            .tasks(Collections.singletonList(Return.builder()
+                .id("test")
+                .type(Return.class.getName())
+                .format("test")
+                .build()))
+            .build();
+    }
+
+    private static Interval interval(Duration duration) {
+        return Interval.builder()
+            .id("interval")
+            .type(Interval.class.getName())
+            .interval(duration)
+            .build();
+    }
+
+    private AbstractScheduler scheduler(Flow flow) {
+        FlowListeners flowListenersServiceSpy = spy(this.flowListenersService);
+
+        doReturn(Collections.singletonList(flow))
+            .when(flowListenersServiceSpy)
+            .flows();
+
+        return new DefaultScheduler(
+            applicationContext,
+            flowListenersServiceSpy,
+            executionState,
+            triggerState
+        );
+    }
+
+    private static ZonedDateTime due(AbstractScheduler scheduler, Flow flow, ZonedDateTime after) throws Exception {
+        String uid = Trigger.of(flow, flow.getTriggers().get(0)).uid();
+
+        return Await.until(
+            () -> {
+                ZonedDateTime date = scheduler.dueDates().get(uid);
+                return date != null && date.isAfter(after) ? date : null;
+            },
+            Duration.ofMillis(100),
+            Duration.ofSeconds(30)
+        );
+    }
+
+    @Test
+    void scheduleSkippedUntilNextDate() throws Exception {
+        Schedule schedule = Schedule.builder()
+            .id("yearly")
+            .type(Schedule.class.getName())
+            .cron("0 0 1 1 *")
+            .build();
+        Flow flow = createFlow(Collections.singletonList(schedule));
+
+        try (AbstractScheduler scheduler = this.scheduler(flow)) {
+            ZonedDateTime now = ZonedDateTime.now();
+            scheduler.run();
+
+            // once looked at, the schedule is not looked at again before its next date
+            ZonedDateTime due = due(scheduler, flow, now.plusMinutes(1));
+            assertThat(due.toInstant(), is(schedule.nextEvaluationDate(null, Optional.empty()).toInstant()));
+        }
+    }
+
+    @Test
+    void intervalRequeuedAfterInterval() throws Exception {
+        Flow flow = flow(IdUtils.create(), 1, interval(Duration.ofHours(1)));
+
+        try (AbstractScheduler scheduler = this.scheduler(flow)) {
+            ZonedDateTime now = ZonedDateTime.now();
+            scheduler.run();
+
+            // looked at each loop while evaluated, then on the next interval
+            ZonedDateTime due = due(scheduler, flow, now.plusMinutes(1));
+            assertThat(due, allOf(greaterThan(now.plusMinutes(59)), lessThan(now.plusMinutes(61))));
+        }
+    }
+
+    @Test
+    void flowUpdateRequeued() throws Exception {
+        Flow flow = flow(IdUtils.create(), 1, interval(Duration.ofHours(1)));
+
+        try (AbstractScheduler scheduler = this.scheduler(flow)) {
+            ZonedDateTime now = ZonedDateTime.now();
+            scheduler.run();
+
+            due(scheduler, flow, now.plusMinutes(1));
+
+            // without waiting for its due date, the updated trigger is looked at again with its new interval
+            Flow updated = flow(flow.getId(), 2, interval(Duration.ofHours(2)));
+            flowQueue.emit(updated);
+
+            ZonedDateTime due = due(scheduler, updated, now.plusMinutes(61));
+            assertThat(due, lessThan(now.plusMinutes(121)));
+        }
+    }
+
+    @SuperBuilder
+    @ToString
+    @EqualsAndHashCode
+    @Getter
+    @NoArgsConstructor
+    public static class Interval extends AbstractTrigger implements PollingTriggerInterface {
+        private Duration interval;
+
+        public Optional<Execution> evaluate(ConditionContext conditionContext, TriggerContext context) {
+            return Optional.empty();
+        }
+    }
+}
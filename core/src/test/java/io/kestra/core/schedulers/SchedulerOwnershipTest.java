@@ -0,0 +1,113 @@
+package io.kestra.core.schedulers;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class SchedulerOwnershipTest {
+    private static final Duration LEASE = Duration.ofSeconds(30);
+    private static final Duration GAIN_DELAY = Duration.ofSeconds(15);
+    private static final Instant NOW = Instant.parse("2022-01-01T00:00:00Z");
+
+    private static final List<String> TRIGGERS = IntStream.range(0, 100)
+        .mapToObj(i -> "io.kestra.unittest_flow-" + i + "_schedule")
+        .collect(Collectors.toList());
+
+    private static List<String> owned(SchedulerOwnership ownership, Instant now) {
+        return TRIGGERS.stream()
+            .filter(uid -> ownership.isOwner(uid, now))
+            .collect(Collectors.toList());
+    }
+
+    @Test
+    void single() {
+        SchedulerOwnership ownership = new SchedulerOwnership("first", LEASE, GAIN_DELAY);
+
+        // nothing before the first heartbeat
+        assertThat(owned(ownership, NOW), empty());
+
+        assertThat(ownership.heartbeat(List.of("first"), NOW), is(true));
+        assertThat(owned(ownership, NOW), hasSize(TRIGGERS.size()));
+
+        // same instances, nothing to rebalance
+        assertThat(ownership.heartbeat(List.of("first"), NOW.plusSeconds(10)), is(false));
+    }
+
+    @Test
+    void join() {
+        SchedulerOwnership first = new SchedulerOwnership("first", LEASE, GAIN_DELAY);
+        first.heartbeat(List.of("first"), NOW);
+
+        Instant joined = NOW.plusSeconds(10);
+        SchedulerOwnership second = new SchedulerOwnership("second", LEASE, GAIN_DELAY);
+        assertThat(second.heartbeat(List.of("first", "second"), joined), is(true));
+        assertThat(first.heartbeat(List.of("first", "second"), joined), is(true));
+
+        SchedulerRing ring = new SchedulerRing(List.of("first", "second"));
+        List<String> kept = TRIGGERS.stream().filter(uid -> ring.owner(uid).equals("first")).collect(Collectors.toList());
+        List<String> moved = TRIGGERS.stream().filter(uid -> ring.owner(uid).equals("second")).collect(Collectors.toList());
+        assertThat(moved, not(empty()));
+
+        // the lost triggers are released at once, the gained ones are only owned after the gain delay
+        assertThat(owned(first, joined), is(kept));
+        assertThat(owned(second, joined), empty());
+        assertThat(owned(second, joined.plus(GAIN_DELAY)), empty());
+        assertThat(owned(second, joined.plus(GAIN_DELAY).plusSeconds(1)), is(moved));
+    }
+
+    @Test
+    void joinTwiceDuringGainDelay() {
+        Instant joined = NOW.plusSeconds(10);
+        SchedulerOwnership second = new SchedulerOwnership("second", LEASE, GAIN_DELAY);
+        second.heartbeat(List.of("first", "second"), joined);
+
+        // a third instance joins before the end of the gain delay of the second
+        Instant thirdJoined = joined.plusSeconds(5);
+        assertThat(second.heartbeat(List.of("first", "second", "third"), thirdJoined), is(true));
+
+        SchedulerRing ring = new SchedulerRing(List.of("first", "second", "third"));
+        List<String> moved = TRIGGERS.stream().filter(uid -> ring.owner(uid).equals("second")).collect(Collectors.toList());
+        assertThat(moved, not(empty()));
+
+        // the triggers gained on the first join still wait for their own gain delay, even if the second ring change
+        // didn't move them
+        assertThat(owned(second, thirdJoined), empty());
+        assertThat(owned(second, joined.plus(GAIN_DELAY)), empty());
+        assertThat(owned(second, joined.plus(GAIN_DELAY).plusSeconds(1)), is(moved));
+    }
+
+    @Test
+    void leave() {
+        SchedulerOwnership first = new SchedulerOwnership("first", LEASE, GAIN_DELAY);
+        first.heartbeat(List.of("first", "second"), NOW);
+
+        Instant left = NOW.plusSeconds(60);
+        first.heartbeat(List.of("first"), left);
+
+        // the triggers kept are still owned, the ones of the leaving instance after the gain delay
+        List<String> kept = owned(first, left);
+        assertThat(kept, not(empty()));
+        assertThat(kept, hasSize(lessThan(TRIGGERS.size())));
+        assertThat(owned(first, left.plus(GAIN_DELAY).plusSeconds(1)), hasSize(TRIGGERS.size()));
+    }
+
+    @Test
+    void expired() {
+        SchedulerOwnership ownership = new SchedulerOwnership("first", LEASE, GAIN_DELAY);
+        ownership.heartbeat(List.of("first"), NOW);
+
+        // no successful heartbeat during the lease duration, the lease could have been taken by another instance
+        assertThat(owned(ownership, NOW.plus(LEASE)), hasSize(TRIGGERS.size()));
+        assertThat(owned(ownership, NOW.plus(LEASE).plusSeconds(1)), empty());
+
+        ownership.heartbeat(List.of("first"), NOW.plus(LEASE).plusSeconds(2));
+        assertThat(owned(ownership, NOW.plus(LEASE).plusSeconds(2)), hasSize(TRIGGERS.size()));
+    }
+}
@@ -0,0 +1,53 @@
+package io.kestra.core.schedulers;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class SchedulerRingTest {
+    private static final List<String> TRIGGERS = IntStream.range(0, 1000)
+        .mapToObj(i -> "io.kestra.unittest_flow-" + i + "_schedule")
+        .collect(Collectors.toList());
+
+    private static Map<String, String> owners(SchedulerRing ring) {
+        return TRIGGERS.stream().collect(Collectors.toMap(Function.identity(), ring::owner));
+    }
+
+    @Test
+    void spread() {
+        SchedulerRing ring = new SchedulerRing(List.of("first", "second", "third"));
+
+        Map<String, Long> count = owners(ring)
+            .values()
+            .stream()
+            .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+        assertThat(count.keySet(), containsInAnyOrder("first", "second", "third"));
+        count.values().forEach(c -> assertThat(c, greaterThan(150L)));
+    }
+
+    @Test
+    void rebalance() {
+        Map<String, String> before = owners(new SchedulerRing(List.of("first", "second")));
+        Map<String, String> after = owners(new SchedulerRing(List.of("first", "second", "third")));
+
+        // only the triggers moved to the new instance change owner
+        TRIGGERS.forEach(uid -> {
+            if (!after.get(uid).equals("third")) {
+                assertThat(after.get(uid), is(before.get(uid)));
+            }
+        });
+    }
+
+    @Test
+    void empty() {
+        assertThat(new SchedulerRing(List.of()).owner("io.kestra.unittest_flow_schedule"), nullValue());
+    }
+}
@@ -0,0 +1,61 @@
+package io.kestra.core.services;
+
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.runners.VariableRenderer;
+import io.kestra.core.tasks.debugs.Return;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+@MicronautTest
+class FlowExpressionServiceTest {
+    @Inject
+    private VariableRenderer variableRenderer;
+
+    private static Flow flow(String format) {
+        return Flow.builder()
+            .id("expressions")
+            .namespace("io.kestra.unittest")
+            .tasks(List.of(Return.builder()
+                .id("return")
+                .type(Return.class.getName())
+                .format(format)
+                .build()))
+            .build();
+    }
+
+    @Test
+    void compiledOnce() throws Exception {
+        FlowExpressionService flowExpressionService = new FlowExpressionService();
+        flowExpressionService.variableRenderer = spy(variableRenderer);
+
+        Flow flow = flow("{{ flow.id }}");
+
+        // validated on deploy then by the repository, the same flow is only compiled once
+        assertThat(flowExpressionService.compile(flow), empty());
+        assertThat(flowExpressionService.compile(flow), empty());
+        verify(flowExpressionService.variableRenderer, times(1)).compile("{{ flow.id }}");
+
+        // another instance is compiled again
+        assertThat(flowExpressionService.compile(flow("{{ flow.id }}")), empty());
+        verify(flowExpressionService.variableRenderer, times(2)).compile("{{ flow.id }}");
+    }
+
+    @Test
+    void invalidCompiledOnce() throws Exception {
+        FlowExpressionService flowExpressionService = new FlowExpressionService();
+        flowExpressionService.variableRenderer = spy(variableRenderer);
+
+        Flow flow = flow("{% if true %}never closed");
+
+        assertThat(flowExpressionService.compile(flow), hasSize(1));
+        assertThat(flowExpressionService.compile(flow).get(0), containsString("Invalid expression on 'return.format'"));
+        verify(flowExpressionService.variableRenderer, times(1)).compile("{% if true %}never closed");
+    }
+}
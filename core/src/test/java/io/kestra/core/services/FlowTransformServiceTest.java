@@ -0,0 +1,68 @@
+package io.kestra.core.services;
+
+import com.google.common.collect.ImmutableMap;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.models.flows.TaskDefault;
+import io.kestra.core.tasks.flows.Template;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+@MicronautTest
+class FlowTransformServiceTest {
+    private static final Template.TemplateExecutorInterface NO_TEMPLATE = (namespace, templateId) -> Optional.empty();
+
+    @Inject
+    private FlowTransformService flowTransformService;
+
+    private static Flow flow(int value) {
+        return Flow.builder()
+            .namespace("io.kestra.tests")
+            .id("transform")
+            .revision(1)
+            .tasks(Collections.singletonList(TaskDefaultServiceTest.DefaultTester.builder()
+                .id("test")
+                .type(TaskDefaultServiceTest.DefaultTester.class.getName())
+                .build()
+            ))
+            .taskDefaults(List.of(
+                new TaskDefault(TaskDefaultServiceTest.DefaultTester.class.getName(), false, ImmutableMap.of(
+                    "value", value
+                ))
+            ))
+            .build();
+    }
+
+    @Test
+    void cached() {
+        Execution execution = Execution.builder()
+            .id("transform")
+            .namespace("io.kestra.tests")
+            .flowId("transform")
+            .state(new State())
+            .build();
+
+        Flow first = flowTransformService.transform(flow(1), execution, NO_TEMPLATE);
+        assertThat(((TaskDefaultServiceTest.DefaultTester) first.getTasks().get(0)).getValue(), is(1));
+
+        // same flow from another source, no need to inject again
+        Flow second = flowTransformService.transform(flow(1), execution, NO_TEMPLATE);
+        assertThat(second, sameInstance(first));
+
+        // same revision but another flow, must be injected again
+        Flow changed = flowTransformService.transform(flow(2), execution, NO_TEMPLATE);
+        assertThat(changed, not(sameInstance(first)));
+        assertThat(((TaskDefaultServiceTest.DefaultTester) changed.getTasks().get(0)).getValue(), is(2));
+    }
+}
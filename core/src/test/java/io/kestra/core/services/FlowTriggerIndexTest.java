@@ -0,0 +1,137 @@
+package io.kestra.core.services;
+
+import io.kestra.core.models.conditions.Condition;
+import io.kestra.core.models.conditions.types.*;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.tasks.debugs.Return;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+
+class FlowTriggerIndexTest {
+    private static Flow create(String flowId, Condition... conditions) {
+        return Flow.builder()
+            .id(flowId)
+            .namespace("io.kestra.unittest")
+            .revision(1)
+            .tasks(Collections.singletonList(Return.builder()
+                .id("test")
+                .type(Return.class.getName())
+                .format("test")
+                .build()))
+            .triggers(List.of(io.kestra.core.models.triggers.types.Flow.builder()
+                .id("trigger")
+                .type(io.kestra.core.models.triggers.types.Flow.class.getName())
+                .conditions(List.of(conditions))
+                .build()))
+            .build();
+    }
+
+    private static Execution execution(String namespace, String flowId, State.Type state) {
+        return Execution.builder()
+            .id("execution")
+            .namespace(namespace)
+            .flowId(flowId)
+            .state(new State().withState(state))
+            .build();
+    }
+
+    private static List<String> candidates(FlowTriggerIndex index, Execution execution) {
+        return index.candidates(execution)
+            .stream()
+            .map(Flow::getId)
+            .collect(Collectors.toList());
+    }
+
+    @Test
+    void candidates() {
+        FlowTriggerIndex index = new FlowTriggerIndex();
+
+        index.snapshot(List.of(
+            create("byFlow", ExecutionFlowCondition.builder().namespace("company.team").flowId("upstream").build()),
+            create("byNamespace", ExecutionNamespaceCondition.builder().namespace("company.team").build()),
+            create("byPrefix", ExecutionNamespaceCondition.builder().namespace("company").prefix(true).build()),
+            create("byState", ExecutionStatusCondition.builder().in(List.of(State.Type.FAILED)).build()),
+            create("always", ExecutionStatusCondition.builder().notIn(List.of(State.Type.FAILED)).build()),
+            create(
+                "byOr",
+                OrCondition.builder()
+                    .conditions(List.of(
+                        ExecutionFlowCondition.builder().namespace("other").flowId("first").build(),
+                        ExecutionFlowCondition.builder().namespace("other").flowId("second").build()
+                    ))
+                    .build()
+            ),
+            Flow.builder().id("withoutTrigger").namespace("io.kestra.unittest").revision(1).build()
+        ));
+
+        assertThat(index.size(), is(6));
+
+        assertThat(
+            candidates(index, execution("company.team", "upstream", State.Type.SUCCESS)),
+            containsInAnyOrder("byFlow", "byNamespace", "byPrefix", "always")
+        );
+        assertThat(
+            candidates(index, execution("company.other", "upstream", State.Type.FAILED)),
+            containsInAnyOrder("byPrefix", "byState", "always")
+        );
+        assertThat(
+            candidates(index, execution("other", "second", State.Type.SUCCESS)),
+            containsInAnyOrder("byOr", "always")
+        );
+    }
+
+    @Test
+    void multipleCondition() {
+        FlowTriggerIndex index = new FlowTriggerIndex();
+
+        index.snapshot(List.of(
+            create(
+                "multiple",
+                ExecutionNamespaceCondition.builder().namespace("company.team").build(),
+                MultipleCondition.builder()
+                    .id("multiple")
+                    .window(Duration.ofDays(1))
+                    .windowAdvance(Duration.ZERO)
+                    .conditions(Map.of(
+                        "first", ExecutionFlowCondition.builder().namespace("other").flowId("first").build(),
+                        "second", ExecutionFlowCondition.builder().namespace("other").flowId("second").build()
+                    ))
+                    .build()
+            )
+        ));
+
+        // any of the sub conditions can update the window
+        assertThat(candidates(index, execution("other", "first", State.Type.SUCCESS)), containsInAnyOrder("multiple"));
+        assertThat(candidates(index, execution("company.team", "any", State.Type.SUCCESS)), containsInAnyOrder("multiple"));
+        assertThat(candidates(index, execution("other", "third", State.Type.SUCCESS)).size(), is(0));
+    }
+
+    @Test
+    void update() {
+        FlowTriggerIndex index = new FlowTriggerIndex();
+        Flow flow = create("updated", ExecutionFlowCondition.builder().namespace("company.team").flowId("first").build());
+
+        index.snapshot(List.of(flow));
+        assertThat(candidates(index, execution("company.team", "first", State.Type.SUCCESS)), containsInAnyOrder("updated"));
+
+        Flow updated = create("updated", ExecutionFlowCondition.builder().namespace("company.team").flowId("second").build());
+        index.update(updated, flow);
+        assertThat(candidates(index, execution("company.team", "first", State.Type.SUCCESS)).size(), is(0));
+        assertThat(candidates(index, execution("company.team", "second", State.Type.SUCCESS)), containsInAnyOrder("updated"));
+
+        index.update(updated.toDeleted(), updated);
+        assertThat(candidates(index, execution("company.team", "second", State.Type.SUCCESS)).size(), is(0));
+        assertThat(index.size(), is(0));
+    }
+}
@@ -0,0 +1,89 @@
+package io.kestra.core.tasks;
+
+import io.kestra.core.tasks.scripts.ScriptEnvironmentCache;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.micronaut.test.support.TestPropertyProvider;
+import jakarta.inject.Inject;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@MicronautTest
+@Property(name = "kestra.tasks.scripts.cache.enabled", value = "true")
+@Property(name = "kestra.tasks.scripts.cache.max-size", value = "1KB")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ScriptEnvironmentCacheTest implements TestPropertyProvider {
+    @Inject
+    ScriptEnvironmentCache scriptEnvironmentCache;
+
+    private Path cachePath;
+
+    @Override
+    public Map<String, String> getProperties() {
+        try {
+            cachePath = Files.createTempDirectory("kestra-script-cache-test");
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        return Map.of("kestra.tasks.scripts.cache.path", cachePath.toString());
+    }
+
+    @AfterAll
+    void cleanup() throws IOException {
+        FileUtils.deleteDirectory(cachePath.toFile());
+    }
+
+    @Test
+    void cached() throws Exception {
+        AtomicInteger built = new AtomicInteger();
+        ScriptEnvironmentCache.EnvironmentBuilder builder = directory -> {
+            built.incrementAndGet();
+            Files.writeString(directory.resolve("file"), "content");
+        };
+
+        Path first;
+        try (ScriptEnvironmentCache.Environment environment = scriptEnvironmentCache.acquire("test", List.of("cached"), builder)) {
+            first = environment.getPath();
+            assertThat(Files.readString(first.resolve("file")), is("content"));
+        }
+
+        try (ScriptEnvironmentCache.Environment environment = scriptEnvironmentCache.acquire("test", List.of("cached"), builder)) {
+            assertThat(environment.getPath(), is(first));
+        }
+
+        assertThat(built.get(), is(1));
+    }
+
+    @Test
+    void evicted() throws Exception {
+        ScriptEnvironmentCache.EnvironmentBuilder builder = directory -> Files.writeString(directory.resolve("file"), "a".repeat(600));
+
+        Path used;
+        try (ScriptEnvironmentCache.Environment environment = scriptEnvironmentCache.acquire("test", List.of("used"), builder)) {
+            used = environment.getPath();
+
+            // over the max size, but the used environment can't be evicted
+            try (ScriptEnvironmentCache.Environment other = scriptEnvironmentCache.acquire("test", List.of("other"), builder)) {
+                assertThat(Files.exists(used), is(true));
+            }
+        }
+
+        try (ScriptEnvironmentCache.Environment environment = scriptEnvironmentCache.acquire("test", List.of("new"), builder)) {
+            assertThat(Files.exists(used), is(false));
+            assertThat(Files.exists(environment.getPath()), is(true));
+        }
+    }
+}
@@ -80,6 +80,44 @@ class SplitTest {
         assertThat(readAll(run.getUris()), is(String.join("\n", content(12288)) + "\n"));
     }
 
+    @Test
+    void rowsWithoutLastNewLine() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        File tempFile = File.createTempFile("unit", "");
+        Files.writeString(tempFile.toPath(), String.join("\n", content(25)));
+        URI put = storageInterface.put(new URI("/file/storage/last.yml"), new FileInputStream(tempFile));
+
+        Split result = Split.builder()
+            .from(put.toString())
+            .rows(10)
+            .build();
+
+        Split.Output run = result.run(runContext);
+
+        assertThat(run.getUris().size(), is(3));
+        assertThat(readAll(run.getUris()), is(String.join("\n", content(25)) + "\n"));
+    }
+
+    @Test
+    void partitionCrLf() throws Exception {
+        RunContext runContext = runContextFactory.of();
+
+        File tempFile = File.createTempFile("unit", "");
+        Files.writeString(tempFile.toPath(), "a\r\nb\r\nc\r\nd");
+        URI put = storageInterface.put(new URI("/file/storage/crlf.yml"), new FileInputStream(tempFile));
+
+        Split result = Split.builder()
+            .from(put.toString())
+            .partitions(2)
+            .build();
+
+        Split.Output run = result.run(runContext);
+
+        assertThat(run.getUris().size(), is(2));
+        assertThat(readAll(run.getUris()), is("a\nc\nb\nd\n"));
+    }
+
     private List<String> content(int count) {
         return IntStream
             .range(0, count)
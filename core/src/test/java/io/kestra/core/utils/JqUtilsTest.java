@@ -0,0 +1,70 @@
+package io.kestra.core.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import net.thisptr.jackson.jq.exception.JsonQueryException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JqUtilsTest {
+    @Test
+    void cached() throws Exception {
+        assertThat(JqUtils.compile(".test"), sameInstance(JqUtils.compile(".test")));
+        assertThat(JqUtils.toJsonNode("{\"test\": 1}"), sameInstance(JqUtils.toJsonNode("{\"test\": 1}")));
+    }
+
+    @Test
+    void largeInputNotCached() throws Exception {
+        try {
+            JqUtils.configureInputsCache(1024);
+
+            String small = "{\"test\": 1}";
+            assertThat(JqUtils.toJsonNode(small), sameInstance(JqUtils.toJsonNode(small)));
+
+            String large = "{\"test\": \"" + "a".repeat(100) + "\"}";
+            assertThat(JqUtils.toJsonNode(large), not(sameInstance(JqUtils.toJsonNode(large))));
+        } finally {
+            JqUtils.configureInputsCache(JqUtils.DEFAULT_INPUTS_MAX_MEMORY);
+        }
+    }
+
+    @Test
+    void weight() throws Exception {
+        String json = "{\"key\": [\"value\", 1]}";
+
+        // the json string, 4 nodes, 1 field with its name and the text value
+        assertThat(JqUtils.weight(json, JqUtils.toJsonNode(json)), is(json.length() * 2L + 4 * 48 + 48 + 3 * 2 + 5 * 2));
+    }
+
+    @Test
+    void apply() throws Exception {
+        List<JsonNode> out = new ArrayList<>();
+
+        JqUtils.apply(".[] | select(. > 1)", JqUtils.toJsonNode("[1, 2, 3]"), out::add);
+        JqUtils.apply(".test | length", JqUtils.toJsonNode(Map.of("test", "value")), out::add);
+
+        assertThat(out.stream().map(JsonNode::intValue).toArray(), is(new Object[]{2, 3, 5}));
+    }
+
+    @Test
+    void definitionNotShared() throws Exception {
+        List<JsonNode> out = new ArrayList<>();
+
+        JqUtils.apply("def inc: . + 1; inc", JqUtils.toJsonNode("1"), out::add);
+        assertThat(out.get(0).intValue(), is(2));
+
+        assertThrows(JsonQueryException.class, () -> JqUtils.apply("inc", JqUtils.toJsonNode("1"), out::add));
+    }
+
+    @Test
+    void invalid() {
+        assertThrows(JsonQueryException.class, () -> JqUtils.compile(".[ invalid"));
+        assertThrows(Exception.class, () -> JqUtils.toJsonNode("{ invalid"));
+    }
+}
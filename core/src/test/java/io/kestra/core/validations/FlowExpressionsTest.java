@@ -0,0 +1,46 @@
+package io.kestra.core.validations;
+
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.validations.ModelValidator;
+import io.kestra.core.tasks.debugs.Return;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+
+@MicronautTest
+class FlowExpressionsTest {
+    @Inject
+    private ModelValidator modelValidator;
+
+    private static Flow flow(String format) {
+        return Flow.builder()
+            .id("expressions")
+            .namespace("io.kestra.unittest")
+            .tasks(List.of(Return.builder()
+                .id("return")
+                .type(Return.class.getName())
+                .format(format)
+                .build()))
+            .build();
+    }
+
+    @Test
+    void valid() {
+        assertThat(modelValidator.isValid(flow("literal")).isPresent(), is(false));
+        assertThat(modelValidator.isValid(flow("{{ flow.id }} {% if true %}ok{% endif %}")).isPresent(), is(false));
+    }
+
+    @Test
+    void invalid() {
+        Flow flow = flow("{% if true %}never closed");
+
+        assertThat(modelValidator.isValid(flow).isPresent(), is(true));
+        assertThat(modelValidator.isValid(flow).get().getMessage(), containsString("Invalid expression on 'return.format'"));
+    }
+}
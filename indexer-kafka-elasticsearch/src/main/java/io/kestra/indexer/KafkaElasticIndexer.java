@@ -10,6 +10,7 @@ import io.kestra.repository.elasticsearch.ElasticSearchRepositoryEnabled;
 import io.kestra.repository.elasticsearch.configs.IndicesConfig;
 import io.kestra.runner.kafka.KafkaQueueEnabled;
 import io.kestra.runner.kafka.configs.TopicsConfig;
+import io.kestra.runner.kafka.serializers.WireCodec;
 import io.kestra.runner.kafka.services.KafkaConsumerService;
 import io.micrometer.core.instrument.Timer;
 import io.micronaut.context.annotation.Replaces;
@@ -55,9 +56,9 @@ public class KafkaElasticIndexer implements IndexerInterface, Cloneable {
     private final Set<String> subscriptions;
 
     private final AtomicBoolean running = new AtomicBoolean(true);;
-    private final DurationOrSizeTrigger<ConsumerRecord<String, String>> trigger;
+    private final DurationOrSizeTrigger<ConsumerRecord<String, byte[]>> trigger;
 
-    private org.apache.kafka.clients.consumer.Consumer<String, String> kafkaConsumer;
+    private org.apache.kafka.clients.consumer.Consumer<String, byte[]> kafkaConsumer;
 
     @Inject
     public KafkaElasticIndexer(
@@ -89,14 +90,14 @@ public class KafkaElasticIndexer implements IndexerInterface, Cloneable {
 
     public void run() {
         poolExecutor.execute(() -> {
-            kafkaConsumer = kafkaConsumerService.of(Indexer.class, Serdes.String(), Indexer.class);
+            kafkaConsumer = kafkaConsumerService.of(Indexer.class, Serdes.ByteArray(), Indexer.class);
             kafkaConsumer.subscribe(this.subscriptions);
 
-            List<ConsumerRecord<String, String>> rows = new ArrayList<>();
+            List<ConsumerRecord<String, byte[]>> rows = new ArrayList<>();
 
             while (running.get()) {
                 try {
-                    List<ConsumerRecord<String, String>> records = StreamSupport
+                    List<ConsumerRecord<String, byte[]>> records = StreamSupport
                         .stream(kafkaConsumer.poll(Duration.ofMillis(500)).spliterator(), false)
                         .collect(Collectors.toList());
 
@@ -109,7 +110,7 @@ public class KafkaElasticIndexer implements IndexerInterface, Cloneable {
                                 .increment(consumerRecords.size());
                         });
 
-                    for (ConsumerRecord<String, String> record : records) {
+                    for (ConsumerRecord<String, byte[]> record : records) {
                         rows.add(record);
                         this.send(rows, kafkaConsumer);
                     }
@@ -125,11 +126,11 @@ public class KafkaElasticIndexer implements IndexerInterface, Cloneable {
         });
     }
 
-    private void send(List<ConsumerRecord<String, String>> rows, org.apache.kafka.clients.consumer.Consumer<String, String> consumer) {
+    private void send(List<ConsumerRecord<String, byte[]>> rows, org.apache.kafka.clients.consumer.Consumer<String, byte[]> consumer) {
         if (trigger.test(rows)) {
-            BulkRequest request = bulkRequest(rows);
-
             try {
+                BulkRequest request = bulkRequest(rows);
+
                 this.metricRegistry
                     .counter(MetricRegistry.METRIC_INDEXER_REQUEST_COUNT)
                     .increment();
@@ -144,31 +145,31 @@ public class KafkaElasticIndexer implements IndexerInterface, Cloneable {
 
                 consumer.commitSync(KafkaConsumerService.maxOffsets(rows));
                 rows.clear();
-            } catch (RuntimeException exception) {
+            } catch (RuntimeException | IOException exception) {
                 consumer.close();
                 throw new RuntimeException(exception);
             }
         }
     }
 
-    private BulkRequest bulkRequest(List<ConsumerRecord<String, String>> rows) {
+    private BulkRequest bulkRequest(List<ConsumerRecord<String, byte[]>> rows) throws IOException {
         BulkRequest request = new BulkRequest();
 
-        rows
-            .forEach(record -> {
-                if (record.value() == null) {
-                    request
-                        .add(new DeleteRequest(this.indexName(record))
-                            .id(record.key())
-                        );
-                } else {
-                    request
-                        .add(new IndexRequest(this.indexName(record))
-                            .id(record.key())
-                            .source(record.value(), XContentType.JSON)
-                        );
-                }
-            });
+        for (ConsumerRecord<String, byte[]> record : rows) {
+            if (record.value() == null) {
+                request
+                    .add(new DeleteRequest(this.indexName(record))
+                        .id(record.key())
+                    );
+            } else {
+                // the topic can be written with a binary wire format, elasticsearch needs json
+                request
+                    .add(new IndexRequest(this.indexName(record))
+                        .id(record.key())
+                        .source(WireCodec.toJson(record.value()), XContentType.JSON)
+                    );
+            }
+        }
 
         return request;
     }
@@ -7,27 +7,38 @@ import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.MockConsumer;
 import org.apache.kafka.clients.consumer.OffsetResetStrategy;
 import org.apache.kafka.common.TopicPartition;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.index.IndexRequest;
 import org.opensearch.client.RestHighLevelClient;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import io.kestra.core.metrics.MetricRegistry;
 import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.flows.Flow;
 import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.core.utils.Await;
 import io.kestra.core.utils.ExecutorsUtils;
 import io.kestra.core.utils.TestsUtils;
 import io.kestra.repository.elasticsearch.ElasticSearchIndicesService;
 import io.kestra.repository.elasticsearch.configs.IndicesConfig;
 import io.kestra.runner.kafka.configs.TopicsConfig;
+import io.kestra.runner.kafka.serializers.WireCodec;
+import io.kestra.runner.kafka.serializers.WireFormat;
 import io.kestra.runner.kafka.services.KafkaConsumerService;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
 import jakarta.inject.Inject;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -59,14 +70,23 @@ class KafkaElasticIndexerTest {
     @Inject
     ExecutorsUtils executorsUtils;
 
-    @Test
-    void run() throws IOException, InterruptedException {
-        String topic = this.topicsConfig
+    @AfterEach
+    void reset() {
+        WireCodec.configure(WireFormat.JSON, Map.of());
+    }
+
+    private String executionTopic() {
+        return this.topicsConfig
             .stream()
             .filter(indicesConfig -> indicesConfig.getCls() == Execution.class)
             .findFirst()
             .orElseThrow()
             .getName();
+    }
+
+    @Test
+    void run() throws IOException, InterruptedException {
+        String topic = this.executionTopic();
 
         CountDownLatch countDownLatch = new CountDownLatch(1);
 
@@ -77,10 +97,10 @@ class KafkaElasticIndexerTest {
         }).when(elasticClientSpy).bulk(any(), any());
 
         KafkaConsumerService kafkaConsumerServiceSpy = mock(KafkaConsumerService.class);
-        MockConsumer<String, String> mockConsumer = mockConsumer(topic);
+        MockConsumer<String, byte[]> mockConsumer = mockConsumer(topic);
         doReturn(mockConsumer).when(kafkaConsumerServiceSpy).of(any(), any(), any());
 
-        ConsumerRecord<String, String> first = buildExecutionRecord(topic, 0);
+        ConsumerRecord<String, byte[]> first = buildExecutionRecord(topic, 0);
 
         mockConsumer.addRecord(first);
         mockConsumer.addRecord(buildExecutionRecord(topic, 1));
@@ -107,19 +127,66 @@ class KafkaElasticIndexerTest {
         assertThat(countDownLatch.getCount(), is(0L));
     }
 
-    private ConsumerRecord<String, String> buildExecutionRecord(String topic, int offset) throws JsonProcessingException {
+    @Test
+    void smile() throws IOException, TimeoutException {
+        String topic = this.executionTopic();
+        WireCodec.configure(WireFormat.JSON, Map.of(topic, WireFormat.SMILE));
+
+        List<IndexRequest> requests = new CopyOnWriteArrayList<>();
+
+        RestHighLevelClient elasticClientSpy = spy(elasticClient);
+        doAnswer(invocation -> {
+            BulkRequest bulkRequest = invocation.getArgument(0);
+            bulkRequest.requests().forEach(request -> requests.add((IndexRequest) request));
+            return invocation.callRealMethod();
+        }).when(elasticClientSpy).bulk(any(), any());
+
+        KafkaConsumerService kafkaConsumerServiceSpy = mock(KafkaConsumerService.class);
+        MockConsumer<String, byte[]> mockConsumer = mockConsumer(topic);
+        doReturn(mockConsumer).when(kafkaConsumerServiceSpy).of(any(), any(), any());
+
+        // a topic migrated to smile, with messages written before & after
+        Execution json = TestsUtils.mockExecution(TestsUtils.mockFlow(), ImmutableMap.of());
+        Execution smile = TestsUtils.mockExecution(TestsUtils.mockFlow(), ImmutableMap.of());
+
+        mockConsumer.addRecord(buildRecord(topic, json.getId(), JacksonMapper.ofJson().writeValueAsBytes(json), 0));
+        mockConsumer.addRecord(buildRecord(topic, smile.getId(), WireCodec.encode(topic, smile), 1));
+
+        KafkaElasticIndexer indexer = new KafkaElasticIndexer(
+            metricRegistry,
+            elasticClientSpy,
+            indexerConfig,
+            topicsConfig,
+            indicesConfigs,
+            elasticSearchIndicesService,
+            kafkaConsumerServiceSpy,
+            executorsUtils
+        );
+
+        Thread thread = new Thread(indexer);
+        thread.start();
+
+        Await.until(() -> requests.size() >= 2, Duration.ofMillis(10), Duration.ofSeconds(30));
+
+        // both are sent as json to elasticsearch
+        assertThat(requests, hasSize(2));
+        assertThat(requests.get(0).sourceAsMap().get("id"), is(json.getId()));
+        assertThat(requests.get(1).sourceAsMap().get("id"), is(smile.getId()));
+    }
+
+    private ConsumerRecord<String, byte[]> buildExecutionRecord(String topic, int offset) throws JsonProcessingException {
         Flow flow = TestsUtils.mockFlow();
         Execution execution = TestsUtils.mockExecution(flow, ImmutableMap.of());
 
         return buildRecord(
             topic,
             execution.getId(),
-            JacksonMapper.ofJson().writeValueAsString(execution),
+            JacksonMapper.ofJson().writeValueAsBytes(execution),
             offset
         );
     }
 
-    private ConsumerRecord<String, String> buildRecord(String topic, String key, String value, int offset) {
+    private ConsumerRecord<String, byte[]> buildRecord(String topic, String key, byte[] value, int offset) {
         return new ConsumerRecord<>(
             topic,
             0,
@@ -129,8 +196,8 @@ class KafkaElasticIndexerTest {
         );
     }
 
-    private MockConsumer<String, String> mockConsumer(String index) {
-        MockConsumer<String, String> consumer = spy(new MockConsumer<>(OffsetResetStrategy.EARLIEST));
+    private MockConsumer<String, byte[]> mockConsumer(String index) {
+        MockConsumer<String, byte[]> consumer = spy(new MockConsumer<>(OffsetResetStrategy.EARLIEST));
         doNothing().when(consumer).subscribe(Collections.singleton(any()));
 
         consumer.assign(Collections.singletonList(new TopicPartition(index, 0)));
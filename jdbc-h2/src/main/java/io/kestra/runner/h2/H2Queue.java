@@ -7,6 +7,7 @@ import org.jooq.*;
 import org.jooq.impl.DSL;
 import org.jooq.impl.SQLDataType;
 
+import java.sql.Timestamp;
 import java.util.List;
 
 public class H2Queue<T> extends JdbcQueue<T> {
@@ -15,11 +16,12 @@ public class H2Queue<T> extends JdbcQueue<T> {
     }
 
     @Override
-    protected Result<Record> receiveFetch(DSLContext ctx, Integer offset) {
-        SelectConditionStep<Record2<Object, Object>> select = ctx
+    protected Result<Record> receiveFetch(DSLContext ctx, Integer offset, Integer limit) {
+        SelectConditionStep<Record3<Object, Object, Timestamp>> select = ctx
             .select(
                 AbstractJdbcRepository.field("value"),
-                AbstractJdbcRepository.field("offset")
+                AbstractJdbcRepository.field("offset"),
+                AbstractJdbcRepository.field("created", Timestamp.class)
             )
             .from(this.table)
             .where(AbstractJdbcRepository.field("type").eq(this.cls.getName()));
@@ -30,17 +32,18 @@ public class H2Queue<T> extends JdbcQueue<T> {
 
         return select
             .orderBy(AbstractJdbcRepository.field("offset").asc())
-            .limit(10)
+            .limit(limit)
             .forUpdate()
             .fetchMany()
             .get(0);
     }
 
-    protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup) {
+    protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, Integer limit) {
         return ctx
             .select(
                 AbstractJdbcRepository.field("value"),
-                AbstractJdbcRepository.field("offset")
+                AbstractJdbcRepository.field("offset"),
+                AbstractJdbcRepository.field("created", Timestamp.class)
             )
             .from(this.table)
             .where(AbstractJdbcRepository.field("type").eq(this.cls.getName()))
@@ -49,7 +52,7 @@ public class H2Queue<T> extends JdbcQueue<T> {
                 DSL.condition("NOT(ARRAY_CONTAINS(\"consumers\", ?))", consumerGroup)
             )))
             .orderBy(AbstractJdbcRepository.field("offset").asc())
-            .limit(10)
+            .limit(limit)
             .forUpdate()
             .fetchMany()
             .get(0);
@@ -0,0 +1,2 @@
+-- the produce time of the message, unlike "updated" it's never changed when the message is consumed
+ALTER TABLE queues ADD COLUMN "created" TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
@@ -6,6 +6,7 @@ import io.micronaut.context.ApplicationContext;
 import org.jooq.*;
 import org.jooq.impl.DSL;
 
+import java.sql.Timestamp;
 import java.util.List;
 
 public class MysqlQueue<T> extends JdbcQueue<T> {
@@ -14,11 +15,12 @@ public class MysqlQueue<T> extends JdbcQueue<T> {
     }
 
     @Override
-    protected Result<Record> receiveFetch(DSLContext ctx, Integer offset) {
-        SelectConditionStep<Record2<Object, Object>> select = ctx
+    protected Result<Record> receiveFetch(DSLContext ctx, Integer offset, Integer limit) {
+        SelectConditionStep<Record3<Object, Object, Timestamp>> select = ctx
             .select(
                 AbstractJdbcRepository.field("value"),
-                AbstractJdbcRepository.field("offset")
+                AbstractJdbcRepository.field("offset"),
+                AbstractJdbcRepository.field("created", Timestamp.class)
             )
             .from(this.table)
             .where(AbstractJdbcRepository.field("type").eq(this.cls.getName()));
@@ -29,18 +31,19 @@ public class MysqlQueue<T> extends JdbcQueue<T> {
 
         return select
             .orderBy(AbstractJdbcRepository.field("offset").asc())
-            .limit(10)
+            .limit(limit)
             .forUpdate()
             .skipLocked()
             .fetchMany()
             .get(0);
     }
 
-    protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup) {
+    protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, Integer limit) {
         return ctx
             .select(
                 AbstractJdbcRepository.field("value"),
-                AbstractJdbcRepository.field("offset")
+                AbstractJdbcRepository.field("offset"),
+                AbstractJdbcRepository.field("created", Timestamp.class)
             )
             .from(this.table)
             .where(AbstractJdbcRepository.field("type").eq(this.cls.getName()))
@@ -49,7 +52,7 @@ public class MysqlQueue<T> extends JdbcQueue<T> {
                 DSL.condition("NOT(FIND_IN_SET(?, consumers) > 0)", consumerGroup)
             )))
             .orderBy(AbstractJdbcRepository.field("offset").asc())
-            .limit(10)
+            .limit(limit)
             .forUpdate()
             .skipLocked()
             .fetchMany()
@@ -4,11 +4,13 @@ import io.kestra.core.queues.QueueFactoryInterface;
 import io.kestra.core.queues.QueueInterface;
 import io.kestra.core.queues.WorkerTaskQueueInterface;
 import io.kestra.core.runners.WorkerTask;
+import io.kestra.jdbc.runner.JdbcQueue;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.inject.qualifiers.Qualifiers;
 import jakarta.inject.Singleton;
 
 import java.util.function.Consumer;
+import java.util.function.IntSupplier;
 
 @Singleton
 @MysqlQueueEnabled
@@ -28,6 +30,11 @@ public class MysqlWorkerTaskQueue implements WorkerTaskQueueInterface {
         return workerTaskQueue.receive(consumerGroup, consumer);
     }
 
+    @Override
+    public Runnable receive(Class<?> consumerGroup, Consumer<WorkerTask> consumer, IntSupplier available) {
+        return ((JdbcQueue<WorkerTask>) workerTaskQueue).receive(consumerGroup, consumer, available);
+    }
+
     @Override
     public void pause() {
 
@@ -1,7 +1,6 @@
 package io.kestra.repository.postgres;
 
 import io.kestra.core.repositories.ArrayListTotal;
-import io.kestra.jdbc.JdbcMapper;
 import io.kestra.jdbc.repository.AbstractJdbcRepository;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.data.model.Pageable;
@@ -31,13 +30,11 @@ public class PostgresRepository<T> extends io.kestra.jdbc.AbstractJdbcRepository
         return DSL.condition(fields.get(0) + " @@ FULLTEXT_SEARCH(?)", query);
     }
 
-    @SneakyThrows
     @Override
-    public Map<Field<Object>, Object> persistFields(T entity) {
-        Map<Field<Object>, Object> fields = super.persistFields(entity);
+    public Map<Field<Object>, Object> persistFields(T entity, String value) {
+        Map<Field<Object>, Object> fields = super.persistFields(entity, value);
 
-        String json = JdbcMapper.of().writeValueAsString(entity);
-        fields.replace(AbstractJdbcRepository.field("value"), DSL.val(JSONB.valueOf(json)));
+        fields.replace(AbstractJdbcRepository.field("value"), DSL.val(JSONB.valueOf(value)));
 
         return fields;
     }
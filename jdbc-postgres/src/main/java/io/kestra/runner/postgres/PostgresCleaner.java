@@ -0,0 +1,84 @@
+package io.kestra.runner.postgres;
+
+import io.kestra.core.queues.QueueException;
+import io.kestra.jdbc.repository.AbstractJdbcRepository;
+import io.kestra.jdbc.runner.JdbcCleaner;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.Replaces;
+import io.micronaut.context.annotation.Requires;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.DSLContext;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * The postgres queues table is partitioned by ranges of offsets, so instead of deleting old messages row by row,
+ * we drop the whole partitions once all their messages are older than the retention. Partitions are created ahead
+ * by the {@link PostgresQueuePartitioner}.
+ */
+@Singleton
+@PostgresQueueEnabled
+@Slf4j
+@Requires(property = "kestra.jdbc.cleaner")
+@Replaces(JdbcCleaner.class)
+public class PostgresCleaner extends JdbcCleaner {
+    private final PostgresQueuePartitioner partitioner;
+
+    @Inject
+    public PostgresCleaner(ApplicationContext applicationContext) {
+        super(applicationContext);
+
+        this.partitioner = applicationContext.getBean(PostgresQueuePartitioner.class);
+    }
+
+    @Override
+    public void deleteQueue() throws QueueException {
+        List<PostgresQueuePartitioner.Partition> partitions = dslContextWrapper.transactionResult(configuration ->
+            this.partitioner.partitions(DSL.using(configuration))
+        );
+
+        OffsetDateTime retention = ZonedDateTime.now().minus(this.configuration.getRetention()).toOffsetDateTime();
+        long current = dslContextWrapper.transactionResult(configuration -> this.partitioner.currentOffset(DSL.using(configuration), this.queueTable));
+
+        // each drop lock the parent table, so we drop them one by one
+        long dropped = partitions
+            .stream()
+            .filter(partition -> partition.getTo() <= current)
+            .filter(partition -> dslContextWrapper.transactionResult(configuration -> {
+                DSLContext context = DSL.using(configuration);
+                Table<Record> table = DSL.table(DSL.quotedName(partition.getName()));
+
+                OffsetDateTime lastUpdated = context
+                    .select(DSL.max(AbstractJdbcRepository.field("updated", OffsetDateTime.class)))
+                    .from(table)
+                    .fetchOne(0, OffsetDateTime.class);
+
+                if (lastUpdated != null && lastUpdated.isAfter(retention)) {
+                    return false;
+                }
+
+                context.dropTable(table).execute();
+
+                return true;
+            }))
+            .count();
+
+        // messages inserted while no partition was available are in the default partition
+        dslContextWrapper.transaction(configuration -> {
+            int deleted = DSL
+                .using(configuration)
+                .delete(DSL.table(this.partitioner.defaultPartition()))
+                .where(AbstractJdbcRepository.field("updated").lessOrEqual(retention))
+                .execute();
+
+            log.info("Dropped {} partitions and cleaned {} records from {}", dropped, deleted, this.queueTable.getName());
+        });
+    }
+}
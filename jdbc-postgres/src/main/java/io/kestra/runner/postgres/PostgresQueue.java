@@ -4,27 +4,77 @@ import io.kestra.jdbc.repository.AbstractJdbcRepository;
 import io.kestra.jdbc.runner.JdbcQueue;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.core.annotation.NonNull;
-import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
 import org.jooq.*;
 import org.jooq.impl.DSL;
-import org.jooq.impl.SQLDataType;
 
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
+@Slf4j
 public class PostgresQueue<T> extends JdbcQueue<T> {
+    /**
+     * The shards of each queue type, see V6__queues_shards migration. Changing it requires that all the consumer
+     * groups have consumed all the messages.
+     */
+    public static final int SHARDS = 8;
+
+    private final PostgresQueueListener listener;
+
+    private final Table<Record> offsetsTable;
+
+    // only messages from transactions older than all the running ones, see V4__queues_offsets migration.
+    // transactions from other databases can't produce messages, any other one is waited for however long it runs:
+    // even if it hasn't written a message yet, it could commit messages behind the consumer groups offsets.
+    private final Condition visible;
+
+    private final Duration visibilityWarning;
+
+    private final AtomicReference<Instant> lastVisibilityWarning = new AtomicReference<>(Instant.EPOCH);
+
+    private final Set<String> initializedGroups = ConcurrentHashMap.newKeySet();
+
+    // each consumer poll on its own thread
+    private final ThreadLocal<Boolean> pending = ThreadLocal.withInitial(() -> false);
+
     public PostgresQueue(Class<T> cls, ApplicationContext applicationContext) {
         super(cls, applicationContext);
+
+        this.offsetsTable = DSL.table(this.table.getName() + "_offsets");
+        this.visible = DSL.condition(
+            "\"xid\" < COALESCE(" +
+                "(SELECT MIN(x) FROM txid_snapshot_xip(txid_current_snapshot()) AS xip(x) " +
+                "WHERE x % 4294967296 NOT IN (" +
+                "SELECT CAST(CAST(backend_xid AS TEXT) AS BIGINT) FROM pg_stat_activity " +
+                "WHERE backend_xid IS NOT NULL " +
+                "AND datname IS DISTINCT FROM current_database()" +
+                ")), " +
+                "txid_snapshot_xmax(txid_current_snapshot())" +
+                ")"
+        );
+        this.visibilityWarning = applicationContext.getBean(PostgresQueueConfiguration.class).getVisibilityWarning();
+        this.listener = applicationContext.findBean(PostgresQueueListener.class).orElse(null);
+
+        if (this.listener != null) {
+            this.listener.register(this.cls.getName(), this::wakeUp);
+        }
     }
 
     @Override
-    @SneakyThrows
-    protected Map<Field<Object>, Object> produceFields(String key, T message) {
-        Map<Field<Object>, Object> map = super.produceFields(key, message);
+    protected Map<Field<Object>, Object> produceFields(String key, T message, String value) {
+        Map<Field<Object>, Object> map = super.produceFields(key, message, value);
 
         map.put(
             AbstractJdbcRepository.field("value"),
-            JSONB.valueOf(mapper.writeValueAsString(message))
+            JSONB.valueOf(value)
         );
 
         map.put(
@@ -32,14 +82,34 @@ public class PostgresQueue<T> extends JdbcQueue<T> {
             DSL.field("CAST(? AS queue_type)", this.cls.getName())
         );
 
+        map.put(
+            AbstractJdbcRepository.field("shard"),
+            key != null ? Math.floorMod(key.hashCode(), SHARDS) : ThreadLocalRandom.current().nextInt(SHARDS)
+        );
+
         return map;
     }
 
-    protected Result<Record> receiveFetch(DSLContext ctx, @NonNull Integer offset) {
-        SelectConditionStep<Record2<Object, Object>> select = ctx
+    @Override
+    protected void produceNotification(DSLContext context) {
+        if (this.listener != null) {
+            context
+                .select(DSL.field("pg_notify(?, ?)", PostgresQueueListener.CHANNEL, this.cls.getName()))
+                .execute();
+        }
+    }
+
+    @Override
+    protected boolean isListening() {
+        return this.listener != null && this.listener.isListening() && !this.pending.get();
+    }
+
+    protected Result<Record> receiveFetch(DSLContext ctx, @NonNull Integer offset, Integer limit) {
+        SelectConditionStep<Record3<Object, Object, Timestamp>> select = ctx
             .select(
                 AbstractJdbcRepository.field("value"),
-                AbstractJdbcRepository.field("offset")
+                AbstractJdbcRepository.field("offset"),
+                AbstractJdbcRepository.field("created", Timestamp.class)
             )
             .from(this.table)
             .where(DSL.condition("type = CAST(? AS queue_type)", this.cls.getName()));
@@ -50,46 +120,160 @@ public class PostgresQueue<T> extends JdbcQueue<T> {
 
         return select
             .orderBy(AbstractJdbcRepository.field("offset").asc())
-            .limit(10)
+            .limit(limit)
             .forUpdate()
             .skipLocked()
             .fetchMany()
             .get(0);
     }
 
-    protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup) {
-        return ctx
+    protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, Integer limit) {
+        Result<Record3<Integer, Long, Integer>> positions = this.lockGroupOffsets(ctx, consumerGroup);
+
+        // all the shards are being fetched by others consumers of the group, we retry soon without waiting for a notification
+        if (positions.isEmpty()) {
+            this.pending.set(true);
+
+            return ctx.newResult();
+        }
+
+        Condition after = DSL.or(positions
+            .stream()
+            .map(position -> AbstractJdbcRepository.field("shard", Integer.class).eq(position.value1())
+                .and(DSL
+                    .row(AbstractJdbcRepository.field("xid", Long.class), AbstractJdbcRepository.field("offset", Integer.class))
+                    .gt(position.value2(), position.value3())
+                )
+            )
+            .collect(Collectors.toList())
+        );
+
+        Result<Record> result = ctx
             .select(
                 AbstractJdbcRepository.field("value"),
-                AbstractJdbcRepository.field("offset")
+                AbstractJdbcRepository.field("offset"),
+                AbstractJdbcRepository.field("created", Timestamp.class)
             )
             .from(this.table)
             .where(DSL.condition("type = CAST(? AS queue_type)", this.cls.getName()))
-            .and(DSL.or(List.of(
-                AbstractJdbcRepository.field("consumers").isNull(),
-                DSL.condition("NOT(CAST(? AS queue_consumers) = ANY(\"consumers\"))", consumerGroup)
-            )))
-            .orderBy(AbstractJdbcRepository.field("offset").asc())
-            .limit(10)
-            .forUpdate()
-            .skipLocked()
+            .and(after)
+            .and(this.visible)
+            .orderBy(
+                AbstractJdbcRepository.field("xid").asc(),
+                AbstractJdbcRepository.field("offset").asc()
+            )
+            .limit(limit)
             .fetchMany()
             .get(0);
+
+        // some committed messages wait for an older transaction to end, we can't rely on notifications for them
+        this.pending.set(result.size() < limit && ctx.fetchExists(ctx
+            .selectOne()
+            .from(this.table)
+            .where(DSL.condition("type = CAST(? AS queue_type)", this.cls.getName()))
+            .and(after)
+            .and(DSL.not(this.visible))
+        ));
+
+        if (this.pending.get()) {
+            this.warnHeldBack(ctx);
+        }
+
+        return result;
     }
 
-    @Override
-    protected void updateGroupOffsets(DSLContext ctx, String consumerGroup, List<Integer> offsets) {
-        ctx
-            .update(DSL.table(table.getName()))
-            .set(
-                AbstractJdbcRepository.field("consumers"),
-                DSL.field(
-                    "\"consumers\" || CAST(? AS queue_consumers[])",
-                    SQLDataType.VARCHAR(50).getArrayType(),
-                    (Object) new String[]{consumerGroup}
+    /**
+     * The messages are held back as long as an older transaction is running, a long transaction stop all the consumers
+     * of the queue, so we warn about it at most once per visibility warning delay.
+     */
+    private void warnHeldBack(DSLContext ctx) {
+        Instant now = Instant.now();
+        Instant last = this.lastVisibilityWarning.get();
+
+        if (last.plus(this.visibilityWarning).isAfter(now)) {
+            return;
+        }
+
+        Record oldest = ctx.fetchOne(
+            "SELECT pid, xact_start, state, LEFT(query, 250) FROM pg_stat_activity " +
+                "WHERE backend_xid IS NOT NULL AND datname = current_database() AND pid <> pg_backend_pid() " +
+                "AND xact_start < now() - CAST(? AS INTERVAL) " +
+                "ORDER BY xact_start LIMIT 1",
+            this.visibilityWarning.toMillis() + " milliseconds"
+        );
+
+        if (oldest != null && this.lastVisibilityWarning.compareAndSet(last, now)) {
+            log.warn(
+                "Messages of queue '{}' are held back by transaction of pid {} running since {} ({}): '{}'",
+                this.cls.getName(),
+                oldest.get(0),
+                oldest.get(1),
+                oldest.get(2),
+                oldest.get(3)
+            );
+        }
+    }
+
+    /**
+     * Lock the offsets of the shards that no other consumer of the group is fetching, concurrent consumers of a
+     * group never wait on each other.
+     */
+    private Result<Record3<Integer, Long, Integer>> lockGroupOffsets(DSLContext ctx, String consumerGroup) {
+        if (!this.initializedGroups.contains(consumerGroup)) {
+            ctx
+                .insertInto(this.offsetsTable)
+                .columns(
+                    AbstractJdbcRepository.field("type"),
+                    AbstractJdbcRepository.field("consumer_group"),
+                    AbstractJdbcRepository.field("shard"),
+                    AbstractJdbcRepository.field("xid"),
+                    AbstractJdbcRepository.field("offset")
                 )
+                .select(DSL
+                    .select(
+                        DSL.field("CAST(? AS queue_type)", this.cls.getName()),
+                        DSL.field("?", consumerGroup),
+                        DSL.field("shard"),
+                        DSL.field("0"),
+                        DSL.field("0")
+                    )
+                    .from(DSL.table("generate_series(0, ?) AS shards(shard)", SHARDS - 1))
+                )
+                .onConflictDoNothing()
+                .execute();
+
+            this.initializedGroups.add(consumerGroup);
+        }
+
+        return ctx
+            .select(
+                AbstractJdbcRepository.field("shard", Integer.class),
+                AbstractJdbcRepository.field("xid", Long.class),
+                AbstractJdbcRepository.field("offset", Integer.class)
             )
-            .where(AbstractJdbcRepository.field("offset").in(offsets.toArray(Integer[]::new)))
-            .execute();
+            .from(this.offsetsTable)
+            .where(DSL.condition("type = CAST(? AS queue_type)", this.cls.getName()))
+            .and(AbstractJdbcRepository.field("consumer_group").eq(consumerGroup))
+            .forUpdate()
+            .skipLocked()
+            .fetch();
+    }
+
+    @Override
+    protected void updateGroupOffsets(DSLContext ctx, String consumerGroup, List<Integer> offsets) {
+        // the last message fetched of each shard
+        ctx.execute(
+            "UPDATE " + this.offsetsTable.getName() + " AS o SET xid = l.xid, \"offset\" = l.\"offset\" " +
+                "FROM (" +
+                "SELECT DISTINCT ON (shard) shard, xid, \"offset\" FROM " + this.table.getName() + " " +
+                "WHERE type = CAST(? AS queue_type) AND \"offset\" = ANY(?) " +
+                "ORDER BY shard, xid DESC, \"offset\" DESC" +
+                ") AS l " +
+                "WHERE o.type = CAST(? AS queue_type) AND o.consumer_group = ? AND o.shard = l.shard",
+            this.cls.getName(),
+            offsets.toArray(new Integer[0]),
+            this.cls.getName(),
+            consumerGroup
+        );
     }
 }
@@ -0,0 +1,16 @@
+package io.kestra.runner.postgres;
+
+import io.micronaut.context.annotation.ConfigurationProperties;
+import lombok.Getter;
+
+import java.time.Duration;
+
+@ConfigurationProperties("kestra.jdbc.queues.postgres")
+@Getter
+public class PostgresQueueConfiguration {
+    /**
+     * A running transaction holds back the messages committed after it started, a warning is logged when it's
+     * running for longer than this.
+     */
+    Duration visibilityWarning = Duration.ofMinutes(1);
+}
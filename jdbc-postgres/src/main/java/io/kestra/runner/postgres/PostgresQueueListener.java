@@ -0,0 +1,131 @@
+package io.kestra.runner.postgres;
+
+import io.kestra.core.utils.ExecutorsUtils;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.Requires;
+import io.micronaut.transaction.jdbc.DelegatingDataSource;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+
+/**
+ * Hold a dedicated connection doing a <code>LISTEN</code> on the queue channel and wake up the
+ * {@link PostgresQueue} of the notified type. Producers send a <code>pg_notify</code> in the emit transaction
+ * so consumers are woken up as soon as the message is committed.
+ */
+@Singleton
+@PostgresQueueEnabled
+@Requires(property = "kestra.jdbc.queues.listen", notEquals = "false")
+@Slf4j
+public class PostgresQueueListener {
+    public static final String CHANNEL = "kestra_queues";
+
+    private static final int NOTIFICATION_TIMEOUT = 1000;
+
+    private static final int RECONNECT_INTERVAL = 1000;
+
+    private final ExecutorsUtils executorsUtils;
+
+    private final DataSource dataSource;
+
+    private final Map<String, List<Runnable>> listeners = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean started = new AtomicBoolean(false);
+
+    private final AtomicBoolean listening = new AtomicBoolean(false);
+
+    private ExecutorService executorService;
+
+    private volatile boolean isClosed = false;
+
+    @Inject
+    public PostgresQueueListener(ApplicationContext applicationContext) {
+        this.executorsUtils = applicationContext.getBean(ExecutorsUtils.class);
+
+        // we need a raw connection outside any transaction
+        this.dataSource = DelegatingDataSource.unwrapDataSource(applicationContext.getBean(DataSource.class));
+    }
+
+    public void register(String type, Runnable runnable) {
+        this.listeners
+            .computeIfAbsent(type, s -> new CopyOnWriteArrayList<>())
+            .add(runnable);
+
+        if (this.started.compareAndSet(false, true)) {
+            this.executorService = executorsUtils.singleThreadExecutor("jdbc-queue-listener");
+            this.executorService.execute(this::run);
+        }
+    }
+
+    public boolean isListening() {
+        return this.listening.get();
+    }
+
+    private void run() {
+        while (!this.isClosed) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+
+                this.listening.set(true);
+
+                // some messages could have been sent while we are not listening
+                this.listeners.values().forEach(runnables -> runnables.forEach(Runnable::run));
+
+                while (!this.isClosed) {
+                    PGNotification[] notifications = pgConnection.getNotifications(NOTIFICATION_TIMEOUT);
+
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            this.listeners
+                                .getOrDefault(notification.getParameter(), List.of())
+                                .forEach(Runnable::run);
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                this.listening.set(false);
+
+                if (!this.isClosed) {
+                    log.warn("Unable to listen on queue notifications, fallback to polling", e);
+
+                    try {
+                        Thread.sleep(RECONNECT_INTERVAL);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+
+        this.listening.set(false);
+    }
+
+    @PreDestroy
+    public void close() {
+        this.isClosed = true;
+
+        if (this.executorService != null) {
+            this.executorService.shutdown();
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package io.kestra.runner.postgres;
+
+import io.kestra.jdbc.JdbcConfiguration;
+import io.kestra.jdbc.JooqDSLContextWrapper;
+import io.kestra.jdbc.repository.AbstractJdbcRepository;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.scheduling.annotation.Scheduled;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.DSLContext;
+import org.jooq.Name;
+import org.jooq.Record;
+import org.jooq.Table;
+import org.jooq.impl.DSL;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Create the partitions of the postgres queues table ahead of the current offset, see V3__queues_partitions
+ * migration. It runs on every instance on a short schedule, independently of the cleaner that drops them.
+ */
+@Singleton
+@PostgresQueueEnabled
+@Slf4j
+public class PostgresQueuePartitioner {
+    private static final long PARTITION_PREMAKE = 2L;
+    private static final Pattern PARTITION_BOUND = Pattern.compile("FOR VALUES FROM \\('?(\\d+)'?\\) TO \\('?(\\d+)'?\\)");
+
+    private final JooqDSLContextWrapper dslContextWrapper;
+    private final Table<Record> queueTable;
+
+    private Long partitionSize;
+
+    @Inject
+    public PostgresQueuePartitioner(ApplicationContext applicationContext) {
+        JdbcConfiguration jdbcConfiguration = applicationContext.getBean(JdbcConfiguration.class);
+
+        this.dslContextWrapper = applicationContext.getBean(JooqDSLContextWrapper.class);
+        this.queueTable = DSL.table(jdbcConfiguration.tableConfig("queues").getTable());
+    }
+
+    @Scheduled(fixedDelay = "${kestra.jdbc.queues.partitions-fixed-delay:1m}")
+    public void report() {
+        this.createPartitions();
+    }
+
+    public void createPartitions() {
+        dslContextWrapper.transaction(configuration -> {
+            DSLContext context = DSL.using(configuration);
+
+            // all the instances run it, only one at a time
+            Boolean locked = context
+                .select(DSL.field("pg_try_advisory_xact_lock(hashtext(?))", Boolean.class, this.queueTable.getName() + "_partitions"))
+                .fetchOne(0, Boolean.class);
+
+            if (!Boolean.TRUE.equals(locked)) {
+                return;
+            }
+
+            long size = this.partitionSize(context);
+            long from = this.partitions(context)
+                .stream()
+                .mapToLong(Partition::getTo)
+                .max()
+                .orElse(0L);
+            long target = this.currentOffset(context, this.queueTable) + PARTITION_PREMAKE * size;
+
+            while (from < target) {
+                this.createPartition(context, from, from + size);
+                from = from + size;
+            }
+        });
+    }
+
+    /**
+     * Messages inserted while no partition was available went to the default partition, and a partition can't be
+     * created while the default one has messages in its range: they are moved to the new partition before attaching
+     * it, with the default partition locked so that no new message can be inserted in the meantime.
+     */
+    private void createPartition(DSLContext context, long from, long to) {
+        Name parent = DSL.quotedName(this.queueTable.getName());
+        Name partition = DSL.quotedName(this.queueTable.getName() + "_p" + from);
+        Table<Record> defaultPartition = DSL.table(this.defaultPartition());
+
+        boolean conflict = context.fetchExists(context
+            .selectOne()
+            .from(defaultPartition)
+            .where(AbstractJdbcRepository.field("offset").between(from, to - 1))
+        );
+
+        if (!conflict) {
+            context.execute(
+                "CREATE TABLE " + partition + " PARTITION OF " + parent + " FOR VALUES FROM (" + from + ") TO (" + to + ")"
+            );
+
+            log.debug("Created partition [{}, {}) on {}", from, to, this.queueTable.getName());
+
+            return;
+        }
+
+        context.execute("LOCK TABLE " + this.defaultPartition() + " IN ACCESS EXCLUSIVE MODE");
+        context.execute("CREATE TABLE " + partition + " (LIKE " + parent + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+
+        int moved = context.execute(
+            "WITH moved AS (DELETE FROM " + this.defaultPartition() + " WHERE \"offset\" >= ? AND \"offset\" < ? RETURNING *) " +
+                "INSERT INTO " + partition + " SELECT * FROM moved",
+            from,
+            to
+        );
+
+        context.execute(
+            "ALTER TABLE " + parent + " ATTACH PARTITION " + partition + " FOR VALUES FROM (" + from + ") TO (" + to + ")"
+        );
+
+        log.info("Created partition [{}, {}) on {} with {} records moved from the default partition", from, to, this.queueTable.getName(), moved);
+    }
+
+    private long partitionSize(DSLContext context) {
+        if (this.partitionSize == null) {
+            this.partitionSize = context
+                .select(DSL.field("QUEUES_PARTITION_SIZE()", Long.class))
+                .fetchOne(0, Long.class);
+        }
+
+        return this.partitionSize;
+    }
+
+    long currentOffset(DSLContext context, Table<Record> table) {
+        Integer max = context
+            .select(DSL.max(AbstractJdbcRepository.field("offset", Integer.class)))
+            .from(table)
+            .fetchOne(0, Integer.class);
+
+        return max == null ? 0L : max;
+    }
+
+    List<Partition> partitions(DSLContext context) {
+        return context
+            .resultQuery(
+                "SELECT c.relname AS name, pg_get_expr(c.relpartbound, c.oid) AS bound " +
+                    "FROM pg_inherits i " +
+                    "JOIN pg_class c ON c.oid = i.inhrelid " +
+                    "WHERE i.inhparent = CAST(? AS regclass)",
+                this.queueTable.getName()
+            )
+            .fetch()
+            .stream()
+            .map(record -> {
+                Matcher matcher = PARTITION_BOUND.matcher(record.get("bound", String.class));
+
+                if (!matcher.find()) {
+                    return null;
+                }
+
+                return new Partition(
+                    record.get("name", String.class),
+                    Long.parseLong(matcher.group(1)),
+                    Long.parseLong(matcher.group(2))
+                );
+            })
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    Name defaultPartition() {
+        return DSL.quotedName(this.queueTable.getName() + "_default");
+    }
+
+    @Value
+    static class Partition {
+        String name;
+        long from;
+        long to;
+    }
+}
@@ -0,0 +1,53 @@
+/* ----------------------- queues ----------------------- */
+-- queues is now partitioned by ranges of 1,000,000 offsets, partitions are created ahead and dropped on retention
+ALTER TABLE queues RENAME TO queues_old;
+ALTER TABLE queues_old RENAME CONSTRAINT queues_pkey TO queues_old_pkey;
+DROP TRIGGER queues_updated ON queues_old;
+DROP INDEX queues_type__consumers;
+DROP INDEX queues_type__offset;
+DROP INDEX queues_updated;
+
+CREATE TABLE queues (
+    "offset" INTEGER NOT NULL DEFAULT nextval('queues_offset_seq'),
+    type queue_type NOT NULL,
+    key VARCHAR(250) NOT NULL,
+    value JSONB NOT NULL,
+    consumers queue_consumers[],
+    updated TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY ("offset")
+) PARTITION BY RANGE ("offset");
+
+ALTER SEQUENCE queues_offset_seq OWNED BY queues."offset";
+
+CREATE TABLE queues_default PARTITION OF queues DEFAULT;
+
+DO $$
+DECLARE
+    max_offset INTEGER;
+BEGIN
+    SELECT COALESCE(MAX("offset"), 0) INTO max_offset FROM queues_old;
+
+    -- every range containing existing messages and the next one
+    FOR i IN 0..(max_offset / 1000000 + 1) LOOP
+        EXECUTE format(
+            'CREATE TABLE queues_p%s PARTITION OF queues FOR VALUES FROM (%s) TO (%s)',
+            i * 1000000,
+            i * 1000000,
+            (i + 1) * 1000000
+        );
+    END LOOP;
+END $$;
+
+INSERT INTO queues ("offset", type, key, value, consumers, updated)
+SELECT "offset", type, key, value, consumers, updated
+FROM queues_old;
+
+DROP TABLE queues_old;
+
+CREATE INDEX queues_type__consumers ON queues (type, consumers, "offset");
+CREATE INDEX queues_type__offset ON queues (type, "offset");
+CREATE INDEX queues_updated ON queues ("updated");
+
+CREATE TRIGGER queues_updated BEFORE UPDATE
+    ON queues FOR EACH ROW EXECUTE PROCEDURE
+    UPDATE_UPDATED_DATETIME();
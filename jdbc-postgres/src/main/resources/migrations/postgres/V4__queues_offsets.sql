@@ -0,0 +1,36 @@
+/* ----------------------- queues ----------------------- */
+-- the transaction id of the producer, consumers only read messages from transactions older than the oldest running
+-- one, so a message can never be committed behind the offset of a consumer group
+ALTER TABLE queues ADD COLUMN xid BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE queues ALTER COLUMN xid SET DEFAULT txid_current();
+
+CREATE INDEX queues_type__xid__offset ON queues (type, xid, "offset");
+
+
+/* ----------------------- queues_offsets ----------------------- */
+CREATE TABLE queues_offsets (
+    type queue_type NOT NULL,
+    consumer_group VARCHAR(250) NOT NULL,
+    xid BIGINT NOT NULL,
+    "offset" INTEGER NOT NULL,
+    PRIMARY KEY (type, consumer_group)
+);
+
+-- start each consumer group before its first message not consumed yet
+INSERT INTO queues_offsets (type, consumer_group, xid, "offset")
+SELECT
+    q.type,
+    CAST(g.consumer_group AS VARCHAR),
+    0,
+    COALESCE(
+        MIN(q."offset") FILTER (WHERE q.consumers IS NULL OR NOT (g.consumer_group = ANY(q.consumers))),
+        MAX(q."offset") + 1
+    ) - 1
+FROM queues q
+CROSS JOIN (SELECT DISTINCT UNNEST(consumers) AS consumer_group FROM queues) g
+GROUP BY q.type, g.consumer_group;
+
+-- messages are now write-once
+DROP TRIGGER queues_updated ON queues;
+DROP INDEX queues_type__consumers;
+ALTER TABLE queues DROP COLUMN consumers;
@@ -0,0 +1,7 @@
+/* ----------------------- queues ----------------------- */
+-- the size of the offset ranges of the queues partitions (see V3__queues_partitions), used by PostgresQueuePartitioner
+-- to create the partitions ahead
+CREATE OR REPLACE FUNCTION QUEUES_PARTITION_SIZE() RETURNS integer
+    LANGUAGE SQL
+    IMMUTABLE
+    AS $$ SELECT 1000000 $$;
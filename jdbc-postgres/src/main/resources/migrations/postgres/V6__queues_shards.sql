@@ -0,0 +1,15 @@
+/* ----------------------- queues ----------------------- */
+-- messages are spread by key on shards, each shard has its own offset per consumer group so that the consumers of a
+-- group can fetch concurrently, existing messages are all on the first shard
+ALTER TABLE queues ADD COLUMN shard SMALLINT NOT NULL DEFAULT 0;
+
+DROP INDEX queues_type__xid__offset;
+CREATE INDEX queues_type__shard__xid__offset ON queues (type, shard, xid, "offset");
+
+
+/* ----------------------- queues_offsets ----------------------- */
+-- the existing offsets are the ones of the first shard, the other shards are created by the consumers
+ALTER TABLE queues_offsets ADD COLUMN shard SMALLINT NOT NULL DEFAULT 0;
+ALTER TABLE queues_offsets ALTER COLUMN shard DROP DEFAULT;
+ALTER TABLE queues_offsets DROP CONSTRAINT queues_offsets_pkey;
+ALTER TABLE queues_offsets ADD PRIMARY KEY (type, consumer_group, shard);
@@ -0,0 +1,3 @@
+/* ----------------------- queues ----------------------- */
+-- the produce time of the message, unlike "updated" it's never changed when the message is consumed
+ALTER TABLE queues ADD COLUMN created TIMESTAMPTZ NOT NULL DEFAULT CURRENT_TIMESTAMP;
@@ -63,9 +63,20 @@ public abstract class AbstractJdbcRepository<T> {
     }
 
     @SneakyThrows
+    public String serialize(T entity) {
+        return JdbcMapper.of().writeValueAsString(entity);
+    }
+
     public Map<Field<Object>, Object> persistFields(T entity) {
+        return this.persistFields(entity, this.serialize(entity));
+    }
+
+    /**
+     * @param value the entity already serialized with {@link #serialize(Object)}, to avoid a second serialization
+     */
+    public Map<Field<Object>, Object> persistFields(T entity, String value) {
         return new HashMap<>(ImmutableMap
-            .of(io.kestra.jdbc.repository.AbstractJdbcRepository.field("value"), JdbcMapper.of().writeValueAsString(entity))
+            .of(io.kestra.jdbc.repository.AbstractJdbcRepository.field("value"), value)
         );
     }
 
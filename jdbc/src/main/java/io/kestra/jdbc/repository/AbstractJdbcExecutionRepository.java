@@ -34,6 +34,7 @@ import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Comparator;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
@@ -568,7 +569,12 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
 
     @Override
     public Execution save(DSLContext dslContext, Execution execution) {
-        Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(execution);
+        return this.save(dslContext, execution, this.jdbcRepository.serialize(execution));
+    }
+
+    @Override
+    public Execution save(DSLContext dslContext, Execution execution, String value) {
+        Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(execution, value);
         this.jdbcRepository.persist(execution, dslContext, fields);
 
         return execution;
@@ -600,6 +606,18 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
     }
 
     public Executor lock(String executionId, Function<Pair<Execution, ExecutorState>, Pair<Executor, ExecutorState>> function) {
+        return this.lock(executionId, function, null);
+    }
+
+    /**
+     * @param serialized called with the serialized value of the persisted execution, allowing to emit it on the queue
+     *                   without serializing it again
+     */
+    public Executor lock(
+        String executionId,
+        Function<Pair<Execution, ExecutorState>, Pair<Executor, ExecutorState>> function,
+        @Nullable Consumer<String> serialized
+    ) {
         return this.jdbcRepository
             .getDslContextWrapper()
             .transactionResult(configuration -> {
@@ -623,9 +641,16 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
                 Pair<Executor, ExecutorState> pair = function.apply(Pair.of(execution.get(), executorState));
 
                 if (pair != null) {
-                    this.jdbcRepository.persist(pair.getKey().getExecution(), context, null);
+                    Execution updated = pair.getKey().getExecution();
+                    String value = this.jdbcRepository.serialize(updated);
+
+                    this.jdbcRepository.persist(updated, context, this.jdbcRepository.persistFields(updated, value));
                     this.executorStateStorage.save(context, pair.getRight());
 
+                    if (serialized != null) {
+                        serialized.accept(value);
+                    }
+
                     return pair.getKey();
                 }
 
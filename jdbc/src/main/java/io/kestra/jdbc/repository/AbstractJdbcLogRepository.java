@@ -123,7 +123,12 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
 
     @Override
     public LogEntry save(DSLContext dslContext, LogEntry logEntry) {
-        Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(logEntry);
+        return this.save(dslContext, logEntry, this.jdbcRepository.serialize(logEntry));
+    }
+
+    @Override
+    public LogEntry save(DSLContext dslContext, LogEntry logEntry, String value) {
+        Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(logEntry, value);
         this.jdbcRepository.persist(logEntry, dslContext, fields);
 
         return logEntry;
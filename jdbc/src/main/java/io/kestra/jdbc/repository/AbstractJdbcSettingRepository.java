@@ -88,17 +88,33 @@ public abstract class AbstractJdbcSettingRepository extends AbstractJdbcReposito
 
     @Override
     public Setting save(Setting setting) {
+        this.saveInternal(setting);
+
+        eventPublisher.publishEvent(new CrudEvent<>(setting, CrudEventType.UPDATE));
+
+        return setting;
+    }
+
+    @Override
+    public Setting saveInternal(Setting setting) {
         Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(setting);
         this.jdbcRepository.persist(setting, fields);
 
-        eventPublisher.publishEvent(new CrudEvent<>(setting, CrudEventType.UPDATE));
+        return setting;
+    }
+
+    @Override
+    public Setting delete(Setting setting) {
+        this.deleteInternal(setting);
+
+        eventPublisher.publishEvent(new CrudEvent<>(setting, CrudEventType.DELETE));
 
         return setting;
     }
 
     @SneakyThrows
     @Override
-    public Setting delete(Setting setting) {
+    public Setting deleteInternal(Setting setting) {
         Optional<Setting> get = this.findByKey(setting.getKey());
         if (get.isEmpty()) {
             throw new IllegalStateException("Setting " + setting.getKey() + " doesn't exists");
@@ -106,8 +122,6 @@ public abstract class AbstractJdbcSettingRepository extends AbstractJdbcReposito
 
         this.jdbcRepository.delete(setting);
 
-        eventPublisher.publishEvent(new CrudEvent<>(setting, CrudEventType.DELETE));
-
         return setting;
     }
 }
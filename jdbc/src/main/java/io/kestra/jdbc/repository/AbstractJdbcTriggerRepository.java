@@ -77,7 +77,12 @@ public abstract class AbstractJdbcTriggerRepository extends AbstractJdbcReposito
 
     @Override
     public Trigger save(DSLContext dslContext, Trigger trigger) {
-        Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(trigger);
+        return this.save(dslContext, trigger, this.jdbcRepository.serialize(trigger));
+    }
+
+    @Override
+    public Trigger save(DSLContext dslContext, Trigger trigger, String value) {
+        Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(trigger, value);
         this.jdbcRepository.persist(trigger, dslContext, fields);
 
         return trigger;
@@ -24,8 +24,8 @@ import java.time.ZonedDateTime;
 @Slf4j
 @Requires(property = "kestra.jdbc.cleaner")
 public class JdbcCleaner {
-    private final JooqDSLContextWrapper dslContextWrapper;
-    private final Configuration configuration;
+    protected final JooqDSLContextWrapper dslContextWrapper;
+    protected final Configuration configuration;
 
     protected final Table<Record> queueTable;
 
@@ -28,9 +28,9 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.event.Level;
 
 import java.io.IOException;
-import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 @Singleton
@@ -73,7 +73,7 @@ public class JdbcExecutor implements ExecutorInterface {
     private FlowService flowService;
 
     @Inject
-    private TaskDefaultService taskDefaultService;
+    private FlowTransformService flowTransformService;
 
     @Inject
     private Template.TemplateExecutorInterface templateExecutorInterface;
@@ -105,15 +105,13 @@ public class JdbcExecutor implements ExecutorInterface {
     @Inject
     private AbstractJdbcExecutorStateStorage executorStateStorage;
 
-    private List<Flow> allFlows;
+    private final FlowTriggerIndex flowTriggerIndex = new FlowTriggerIndex();
 
     @SneakyThrows
     @Override
     public void run() {
         flowListeners.run();
-        flowListeners.listen(flows -> this.allFlows = flows);
-
-        Await.until(() -> this.allFlows != null, Duration.ofMillis(100), Duration.ofMinutes(5));
+        flowListeners.listen(flowTriggerIndex::snapshot, flowTriggerIndex::update);
 
         applicationContext.registerSingleton(new DefaultFlowExecutor(flowListeners, this.flowRepository));
 
@@ -150,6 +148,7 @@ public class JdbcExecutor implements ExecutorInterface {
     }
 
     private void executionQueue(Execution message) {
+        AtomicReference<String> serialized = new AtomicReference<>();
         Executor result = executionRepository.lock(message.getId(), pair -> {
             Execution execution = pair.getLeft();
             ExecutorState executorState = pair.getRight();
@@ -179,23 +178,24 @@ public class JdbcExecutor implements ExecutorInterface {
                     .collect(Collectors.toList());
 
                 // WorkerTask not flowable to workerTask
-                workerTasksDedup
+                workerTaskQueue.emitBatch(workerTasksDedup
                     .stream()
                     .filter(workerTask -> workerTask.getTask().isSendToWorkerTask())
-                    .forEach(workerTaskQueue::emit);
+                    .collect(Collectors.toList())
+                );
 
                 // WorkerTask not flowable to workerTaskResult as Running
-                workerTasksDedup
+                workerTaskResultQueue.emitBatch(workerTasksDedup
                     .stream()
                     .filter(workerTask -> workerTask.getTask().isFlowable())
                     .map(workerTask -> new WorkerTaskResult(workerTask.withTaskRun(workerTask.getTaskRun().withState(State.Type.RUNNING))))
-                    .forEach(workerTaskResultQueue::emit);
+                    .collect(Collectors.toList())
+                );
             }
 
             // worker tasks results
             if (executor.getWorkerTaskResults().size() > 0) {
-                executor.getWorkerTaskResults()
-                    .forEach(workerTaskResultQueue::emit);
+                workerTaskResultQueue.emitBatch(executor.getWorkerTaskResults());
             }
 
             // schedulerDelay
@@ -245,20 +245,23 @@ public class JdbcExecutor implements ExecutorInterface {
                 conditionService.isTerminatedWithListeners(flow, execution) &&
                 this.deduplicateFlowTrigger(execution, executorState)
             ) {
+                // only the flows with a trigger that can match this execution
+                List<Flow> candidates = flowTriggerIndex.candidates(execution);
+
                 // multiple conditions storage
                 multipleConditionStorage.save(
                     flowService
-                        .multipleFlowTrigger(allFlows.stream(), flow, execution, multipleConditionStorage)
+                        .multipleFlowTrigger(candidates.stream(), flow, execution, multipleConditionStorage)
                 );
 
                 // Flow Trigger
-                flowService
-                    .flowTriggerExecution(allFlows.stream(), execution, multipleConditionStorage)
-                    .forEach(this.executionQueue::emit);
+                this.executionQueue.emitBatch(flowService
+                    .flowTriggerExecution(candidates.stream(), execution, multipleConditionStorage)
+                );
 
                 // Trigger is done, remove matching multiple condition
                 flowService
-                    .multipleFlowToDelete(allFlows.stream(), multipleConditionStorage)
+                    .multipleFlowToDelete(candidates.stream(), multipleConditionStorage)
                     .forEach(multipleConditionStorage::delete);
             }
 
@@ -282,10 +285,10 @@ public class JdbcExecutor implements ExecutorInterface {
                 executor,
                 executorState
             );
-        });
+        }, serialized::set);
 
         if (result != null) {
-            this.toExecution(result);
+            this.toExecution(result, serialized.get());
         }
     }
 
@@ -306,6 +309,7 @@ public class JdbcExecutor implements ExecutorInterface {
                 .record(message.getTaskRun().getState().getDuration());
         }
 
+        AtomicReference<String> serialized = new AtomicReference<>();
         Executor executor = executionRepository.lock(message.getTaskRun().getExecutionId(), pair -> {
             Execution execution = pair.getLeft();
             Executor current = new Executor(execution, null);
@@ -341,14 +345,17 @@ public class JdbcExecutor implements ExecutorInterface {
             }
 
             return null;
-        });
+        }, serialized::set);
 
         if (executor != null) {
-            this.toExecution(executor);
+            this.toExecution(executor, serialized.get());
         }
     }
 
-    private void toExecution(Executor executor) {
+    /**
+     * @param serialized the execution as persisted by the lock, reused on the queue if the execution is unchanged
+     */
+    private void toExecution(Executor executor, String serialized) {
         boolean shouldSend = false;
         boolean hasFailure = false;
 
@@ -372,7 +379,7 @@ public class JdbcExecutor implements ExecutorInterface {
         if (hasFailure) {
             this.executionQueue.emit(executor.getExecution());
         } else {
-            ((JdbcQueue<Execution>) this.executionQueue).emitOnly(executor.getExecution());
+            ((JdbcQueue<Execution>) this.executionQueue).emitOnly(executor.getExecution(), serialized);
         }
 
         // delete if ended
@@ -383,17 +390,7 @@ public class JdbcExecutor implements ExecutorInterface {
     }
 
     private Flow transform(Flow flow, Execution execution) {
-        try {
-            flow = Template.injectTemplate(
-                flow,
-                execution,
-                (namespace, id) -> templateExecutorInterface.findById(namespace, id).orElse(null)
-            );
-        } catch (InternalException e) {
-            log.warn("Failed to inject template",  e);
-        }
-
-        return taskDefaultService.injectDefaults(flow, execution);
+        return flowTransformService.transform(flow, execution, templateExecutorInterface);
     }
 
     private void executionDelaySend() {
@@ -402,6 +399,7 @@ public class JdbcExecutor implements ExecutorInterface {
         }
 
         abstractExecutionDelayStorage.get(executionDelay -> {
+            AtomicReference<String> serialized = new AtomicReference<>();
             Executor result = executionRepository.lock(executionDelay.getExecutionId(), pair -> {
                 Executor executor = new Executor(pair.getLeft(), null);
 
@@ -421,10 +419,10 @@ public class JdbcExecutor implements ExecutorInterface {
                     executor,
                     pair.getRight()
                 );
-            });
+            }, serialized::set);
 
             if (result != null) {
-                this.toExecution(result);
+                this.toExecution(result, serialized.get());
             }
         });
     }
@@ -486,7 +484,7 @@ public class JdbcExecutor implements ExecutorInterface {
     private Executor handleFailedExecutionFromExecutor(Executor executor, Exception e) {
         Execution.FailedExecutionWithLog failedExecutionWithLog = executor.getExecution().failedExecutionFromExecutor(e);
         try {
-            failedExecutionWithLog.getLogs().forEach(logQueue::emit);
+            logQueue.emitBatch(failedExecutionWithLog.getLogs());
 
             return executor.withExecution(failedExecutionWithLog.getExecution(), "exception");
         } catch (Exception ex) {
@@ -4,4 +4,11 @@ import org.jooq.DSLContext;
 
 public interface JdbcIndexerInterface<T> {
     T save(DSLContext context, T message);
+
+    /**
+     * Save the message with its value already serialized by the queue, see {@link io.kestra.jdbc.AbstractJdbcRepository#serialize(Object)}.
+     */
+    default T save(DSLContext context, T message, String value) {
+        return this.save(context, message);
+    }
 }
@@ -3,13 +3,16 @@ package io.kestra.jdbc.runner;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.CaseFormat;
+import com.google.common.base.Utf8;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import io.kestra.core.metrics.MetricRegistry;
 import io.kestra.core.queues.QueueException;
 import io.kestra.core.queues.QueueInterface;
 import io.kestra.core.queues.QueueService;
-import io.kestra.core.serializers.JacksonMapper;
 import io.kestra.core.utils.ExecutorsUtils;
 import io.kestra.core.utils.IdUtils;
+import io.kestra.jdbc.JdbcMapper;
 import io.kestra.jdbc.JooqDSLContextWrapper;
 import io.kestra.jdbc.JdbcConfiguration;
 import io.kestra.jdbc.repository.AbstractJdbcRepository;
@@ -23,6 +26,7 @@ import org.jooq.*;
 import org.jooq.impl.DSL;
 
 import java.io.IOException;
+import java.sql.Timestamp;
 import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.HashMap;
@@ -34,12 +38,18 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
-import java.util.function.Supplier;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import javax.annotation.Nullable;
 import javax.sql.DataSource;
 
 @Slf4j
 public abstract class JdbcQueue<T> implements QueueInterface<T> {
-    protected static final ObjectMapper mapper = JacksonMapper.ofJson();
+    protected static final ObjectMapper mapper = JdbcMapper.of();
+
+    private static final int INSERT_BATCH_SIZE = 500;
 
     private static ExecutorService poolExecutor;
 
@@ -57,6 +67,12 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
 
     protected final JdbcQueueIndexer jdbcQueueIndexer;
 
+    private final MetricRegistry metricRegistry;
+
+
+    private final Object signal = new Object();
+
+    private long signalCount = 0;
 
     protected Boolean isShutdown = false;
 
@@ -77,45 +93,145 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         this.table = DSL.table(jdbcConfiguration.tableConfig("queues").getTable());
 
         this.jdbcQueueIndexer = applicationContext.getBean(JdbcQueueIndexer.class);
+        this.metricRegistry = applicationContext.getBean(MetricRegistry.class);
     }
 
-    @SneakyThrows
-    protected Map<Field<Object>, Object> produceFields(String key, T message) {
+    /**
+     * @param value the message serialized with {@link #serialize(Object)}
+     */
+    protected Map<Field<Object>, Object> produceFields(String key, T message, String value) {
         return new HashMap<>(ImmutableMap
             .of(
                 AbstractJdbcRepository.field("type"), this.cls.getName(),
                 AbstractJdbcRepository.field("key"), key != null ? key : IdUtils.create(),
-                AbstractJdbcRepository.field("value"), mapper.writeValueAsString(message)
+                AbstractJdbcRepository.field("value"), value
             )
         );
     }
 
-    private void produce(String key, T message, Boolean skipIndexer) {
+    /**
+     * Messages are serialized once with the same mapper as the repositories, the value is shared by the queue row
+     * and the indexed repository row.
+     */
+    @SneakyThrows
+    protected String serialize(T message) {
+        String value = mapper.writeValueAsString(message);
+
+        metricRegistry
+            .summary(MetricRegistry.QUEUE_SERIALIZED_BYTES, MetricRegistry.TAG_QUEUE_TYPE, this.cls.getName())
+            .record(Utf8.encodedLength(value));
+
+        return value;
+    }
+
+    private void produce(List<T> messages, @Nullable List<String> serialized, Boolean skipIndexer) {
+        if (messages.isEmpty()) {
+            return;
+        }
+
         if (log.isTraceEnabled()) {
-            log.trace("New message: topic '{}', value {}", this.cls.getName(), message);
+            messages.forEach(message -> log.trace("New message: topic '{}', value {}", this.cls.getName(), message));
         }
 
+        List<String> values = serialized != null ?
+            serialized :
+            messages.stream().map(this::serialize).collect(Collectors.toList());
+
         dslContextWrapper.transaction(configuration -> {
             DSLContext context = DSL.using(configuration);
 
             if (!skipIndexer) {
-                jdbcQueueIndexer.accept(context, message);
+                for (int i = 0; i < messages.size(); i++) {
+                    jdbcQueueIndexer.accept(context, messages.get(i), values.get(i));
+                }
             }
 
-            context
-                .insertInto(table)
-                .set(this.produceFields(key, message))
-                .execute();
+            // one multi-rows insert for the whole batch
+            Lists.partition(IntStream.range(0, messages.size()).boxed().collect(Collectors.toList()), INSERT_BATCH_SIZE)
+                .forEach(partition -> {
+                    InsertSetMoreStep<Record> insert = null;
+
+                    for (int i : partition) {
+                        T message = messages.get(i);
+                        Map<Field<Object>, Object> fields = this.produceFields(queueService.key(message), message, values.get(i));
+
+                        insert = insert == null ?
+                            context.insertInto(table).set(fields) :
+                            insert.newRecord().set(fields);
+                    }
+
+                    insert.execute();
+                });
+
+            this.produceNotification(context);
         });
+
+        this.wakeUp();
     }
 
     public void emitOnly(T message) {
-        this.produce(queueService.key(message), message, true);
+        this.produce(List.of(message), null, true);
+    }
+
+    /**
+     * Emit without indexing a message already serialized, ie: by the repository that persisted it.
+     *
+     * @param value the message serialized with {@link #serialize(Object)}, serialized again if null
+     */
+    public void emitOnly(T message, @Nullable String value) {
+        this.produce(List.of(message), value == null ? null : List.of(value), true);
     }
 
     @Override
     public void emit(T message) {
-        this.produce(queueService.key(message), message, false);
+        this.produce(List.of(message), null, false);
+    }
+
+    /**
+     * Emit all the messages in a single transaction, indexing them and inserting them with multi-rows insert.
+     */
+    @Override
+    public void emitBatch(List<T> messages) {
+        this.produce(messages, null, false);
+    }
+
+    /**
+     * Called inside the emit transaction, once the message is inserted, to let the backend
+     * notify consumers from others instances.
+     */
+    protected void produceNotification(DSLContext context) {
+
+    }
+
+    /**
+     * @return true if consumers are woken up by the backend on new messages, polling is then only a fallback
+     */
+    protected boolean isListening() {
+        return false;
+    }
+
+    /**
+     * Wake up all the receive loops of this queue waiting for new messages.
+     */
+    protected void wakeUp() {
+        synchronized (signal) {
+            signalCount++;
+            signal.notifyAll();
+        }
+    }
+
+    private long signalCount() {
+        synchronized (signal) {
+            return signalCount;
+        }
+    }
+
+    private void await(long lastSignal, long timeout) throws InterruptedException {
+        synchronized (signal) {
+            if (signalCount == lastSignal) {
+                signal.wait(timeout);
+            }
+        }
     }
 
     @Override
@@ -135,9 +251,9 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         );
     }
 
-    abstract protected Result<Record> receiveFetch(DSLContext ctx, Integer offset);
+    abstract protected Result<Record> receiveFetch(DSLContext ctx, Integer offset, Integer limit);
 
-    abstract protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup);
+    abstract protected Result<Record> receiveFetch(DSLContext ctx, String consumerGroup, Integer limit);
 
     abstract protected void updateGroupOffsets(DSLContext ctx, String consumerGroup, List<Integer> offsets);
 
@@ -158,11 +274,11 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
             }
         });
 
-        return this.poll(() -> {
+        return this.poll(null, () -> Integer.MAX_VALUE, limit -> {
             Result<Record> fetch = dslContextWrapper.transactionResult(configuration -> {
                 DSLContext ctx = DSL.using(configuration);
 
-                Result<Record> result = this.receiveFetch(ctx, maxOffset.get());
+                Result<Record> result = this.receiveFetch(ctx, maxOffset.get(), limit);
 
                 if (result.size() > 0) {
                     List<Integer> offsets = result.map(record -> record.get("offset", Integer.class));
@@ -173,6 +289,7 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
                 return result;
             });
 
+            this.lag(fetch, null);
             this.send(fetch, consumer);
 
             return fetch.size();
@@ -181,13 +298,21 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
 
     @Override
     public Runnable receive(Class<?> consumerGroup, Consumer<T> consumer) {
+        return this.receive(consumerGroup, consumer, () -> Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param available the count of messages that the consumer can accept now, the fetch size is capped by it and
+     *                  nothing is fetched (so the group offsets are not moved) while it's 0
+     */
+    public Runnable receive(Class<?> consumerGroup, Consumer<T> consumer, IntSupplier available) {
         String consumerGroupName = consumerGroupName(consumerGroup);
 
-        return this.poll(() -> {
+        return this.poll(consumerGroupName, available, limit -> {
             Result<Record> fetch = dslContextWrapper.transactionResult(configuration -> {
                 DSLContext ctx = DSL.using(configuration);
 
-                Result<Record> result = this.receiveFetch(ctx, consumerGroupName);
+                Result<Record> result = this.receiveFetch(ctx, consumerGroupName, limit);
 
                 if (result.size() > 0) {
 
@@ -201,27 +326,104 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
                 return result;
             });
 
+            this.lag(fetch, consumerGroupName);
             this.send(fetch, consumer);
 
             return fetch.size();
         });
     }
 
-    @SuppressWarnings("BusyWait")
-    private Runnable poll(Supplier<Integer> runnable) {
+    /**
+     * @return the configured fetch size for this queue type
+     */
+    protected int fetchSize() {
+        return configuration.getFetchSizes().getOrDefault(
+            CaseFormat.UPPER_CAMEL.to(CaseFormat.LOWER_HYPHEN, this.cls.getSimpleName()),
+            configuration.getFetchSize()
+        );
+    }
+
+    /**
+     * With adaptive fetch size, double the size when the last fetch was full since there is a backlog and halve it
+     * when the last fetch was mostly empty, bounded by the configured fetch size and the max fetch size.
+     */
+    private int nextFetchSize(int current, int fetched) {
+        if (!configuration.getAdaptiveFetchSize()) {
+            return current;
+        }
+
+        int min = this.fetchSize();
+
+        if (fetched >= current) {
+            return Math.max(min, Math.min(current * 2, configuration.getMaxFetchSize()));
+        } else if (fetched < current / 2) {
+            return Math.max(min, current / 2);
+        }
+
+        return current;
+    }
+
+    private void lag(Result<Record> fetch, String consumerGroup) {
+        if (fetch.size() == 0) {
+            return;
+        }
+
+        // the produce time, "updated" can't be used since it's changed when a consumer group receives the message
+        Timestamp created = fetch.get(0).get("created", Timestamp.class);
+
+        if (created != null) {
+            metricRegistry
+                .timer(MetricRegistry.QUEUE_LAG_DURATION, this.metricTags(consumerGroup))
+                .record(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - created.getTime())));
+        }
+    }
+
+    private String[] metricTags(String consumerGroup) {
+        return new String[]{
+            MetricRegistry.TAG_QUEUE_TYPE, this.cls.getName(),
+            MetricRegistry.TAG_CONSUMER_GROUP, consumerGroup == null ? "none" : consumerGroup
+        };
+    }
+
+    private Runnable poll(String consumerGroup, IntSupplier available, Function<Integer, Integer> runnable) {
         AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger fetchSize = new AtomicInteger(this.fetchSize());
         AtomicLong sleep = new AtomicLong(configuration.getMaxPollInterval().toMillis());
         AtomicReference<ZonedDateTime> lastPoll = new AtomicReference<>(ZonedDateTime.now());
 
         poolExecutor.execute(() -> {
             while (running.get() && !this.isShutdown) {
+                long lastSignal = this.signalCount();
+                int limit = Math.min(fetchSize.get(), available.getAsInt());
+                int count = 0;
+
+                if (limit <= 0) {
+                    try {
+                        Thread.sleep(configuration.getMinPollInterval().toMillis());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        running.set(false);
+                    }
+
+                    continue;
+                }
+
                 try {
-                    Integer count = runnable.get();
+                    count = runnable.apply(limit);
                     if (count > 0) {
                         lastPoll.set(ZonedDateTime.now());
                     }
 
-                    sleep.set(lastPoll.get().plus(configuration.getPollSwitchInterval()).compareTo(ZonedDateTime.now()) < 0 ?
+                    metricRegistry
+                        .summary(MetricRegistry.QUEUE_FETCH_SIZE, this.metricTags(consumerGroup))
+                        .record(count);
+
+                    // a fetch capped by the consumer doesn't tell anything about the backlog
+                    if (limit == fetchSize.get()) {
+                        fetchSize.set(this.nextFetchSize(limit, count));
+                    }
+
+                    sleep.set(this.isListening() || lastPoll.get().plus(configuration.getPollSwitchInterval()).compareTo(ZonedDateTime.now()) < 0 ?
                         configuration.getMaxPollInterval().toMillis() :
                         configuration.getMinPollInterval().toMillis()
                     );
@@ -231,8 +433,14 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
                     }
                 }
 
+                // a full fetch means a backlog, and notifications are coalesced so a non empty fetch can hide
+                // some pending messages
+                if (count >= limit || (count > 0 && this.isListening())) {
+                    continue;
+                }
+
                 try {
-                    Thread.sleep(sleep.get());
+                    this.await(lastSignal, sleep.get());
                 } catch (InterruptedException e) {
                     throw new RuntimeException(e);
                 }
@@ -248,7 +456,7 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         fetch
             .map(record -> {
                 try {
-                    return JacksonMapper.ofJson().readValue(record.get("value", String.class), cls);
+                    return mapper.readValue(record.get("value", String.class), cls);
                 } catch (JsonProcessingException e) {
                     throw new RuntimeException(e);
                 }
@@ -259,11 +467,13 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
     @Override
     public void pause() {
         this.isShutdown = true;
+        this.wakeUp();
     }
 
     @Override
     public void close() throws IOException {
         this.isShutdown = true;
+        this.wakeUp();
         poolExecutor.shutdown();
     }
 
@@ -273,5 +483,10 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         Duration minPollInterval = Duration.ofMillis(100);
         Duration maxPollInterval = Duration.ofMillis(500);
         Duration pollSwitchInterval = Duration.ofSeconds(30);
+
+        Integer fetchSize = 10;
+        Map<String, Integer> fetchSizes = new HashMap<>();
+        Boolean adaptiveFetchSize = false;
+        Integer maxFetchSize = 1000;
     }
 }
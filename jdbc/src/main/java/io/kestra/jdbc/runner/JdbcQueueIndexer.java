@@ -35,13 +35,16 @@ public class JdbcQueueIndexer {
         this.metricRegistry = applicationContext.getBean(MetricRegistry.class);
     }
 
-    public void accept(DSLContext context, Object item) {
+    /**
+     * @param value the item already serialized by the queue, saved as is on the repository
+     */
+    public void accept(DSLContext context, Object item, String value) {
         if (repositories.containsKey(item.getClass())) {
             this.metricRegistry.counter(MetricRegistry.METRIC_INDEXER_REQUEST_COUNT, "type", item.getClass().getName()).increment();
             this.metricRegistry.counter(MetricRegistry.METRIC_INDEXER_MESSAGE_IN_COUNT, "type", item.getClass().getName()).increment();
 
             this.metricRegistry.timer(MetricRegistry.METRIC_INDEXER_REQUEST_DURATION, "type", item.getClass().getName()).record(() -> {
-                repositories.get(item.getClass()).save(context, cast(item));
+                repositories.get(item.getClass()).save(context, cast(item), value);
 
                 this.metricRegistry.counter(MetricRegistry.METRIC_INDEXER_MESSAGE_OUT_COUNT, "type", item.getClass().getName()).increment();
             });
@@ -2,10 +2,15 @@ package io.kestra.jdbc.runner;
 
 import io.kestra.core.models.triggers.Trigger;
 import io.kestra.core.models.triggers.TriggerContext;
+import io.kestra.core.repositories.SettingRepositoryInterface;
 import io.kestra.core.repositories.TriggerRepositoryInterface;
+import io.kestra.core.schedulers.AbstractScheduler;
+import io.kestra.core.schedulers.SchedulerInstance;
+import io.kestra.core.schedulers.SchedulerInstanceLeases;
 import io.kestra.core.schedulers.SchedulerTriggerStateInterface;
 import jakarta.inject.Singleton;
 
+import java.util.List;
 import java.util.Optional;
 
 @Singleton
@@ -13,8 +18,15 @@ import java.util.Optional;
 public class JdbcSchedulerTriggerState implements SchedulerTriggerStateInterface {
     protected TriggerRepositoryInterface triggerRepository;
 
-    public JdbcSchedulerTriggerState(TriggerRepositoryInterface triggerRepository) {
+    private final SchedulerInstanceLeases leases;
+
+    public JdbcSchedulerTriggerState(
+        TriggerRepositoryInterface triggerRepository,
+        SettingRepositoryInterface settingRepository,
+        AbstractScheduler.ShardingConfiguration shardingConfiguration
+    ) {
         this.triggerRepository = triggerRepository;
+        this.leases = new SchedulerInstanceLeases(settingRepository, shardingConfiguration.getConsistencyWindow());
     }
 
     @Override
@@ -28,4 +40,14 @@ public class JdbcSchedulerTriggerState implements SchedulerTriggerStateInterface
 
         return trigger;
     }
+
+    @Override
+    public List<SchedulerInstance> heartbeat(SchedulerInstance instance) {
+        return this.leases.heartbeat(instance);
+    }
+
+    @Override
+    public void release(SchedulerInstance instance) {
+        this.leases.release(instance);
+    }
 }
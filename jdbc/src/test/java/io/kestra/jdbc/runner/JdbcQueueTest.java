@@ -14,11 +14,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
 
 @MicronautTest(transactional = false)
@@ -80,6 +83,27 @@ abstract public class JdbcQueueTest {
         assertThat(namespace.get(), is("io.kestra.f2"));
     }
 
+    @Test
+    void batch() throws InterruptedException {
+        CountDownLatch countDownLatch = new CountDownLatch(3);
+        List<String> namespaces = new CopyOnWriteArrayList<>();
+
+        flowQueue.receive(Indexer.class, flow -> {
+            namespaces.add(flow.getNamespace());
+            countDownLatch.countDown();
+        });
+
+        flowQueue.emitBatch(List.of(
+            builder("io.kestra.f1"),
+            builder("io.kestra.f2"),
+            builder("io.kestra.f3")
+        ));
+
+        countDownLatch.await(5, TimeUnit.SECONDS);
+
+        assertThat(namespaces, contains("io.kestra.f1", "io.kestra.f2", "io.kestra.f3"));
+    }
+
     private static Flow builder(String namespace) {
         return Flow.builder()
             .id(IdUtils.create())
@@ -63,21 +63,34 @@ public class ElasticsearchSettingRepository extends AbstractElasticSearchReposit
     @Override
     @VisibleForTesting
     public Setting save(Setting setting) {
-        this.putRequest(INDEX_NAME, setting.getKey(), setting);
+        this.saveInternal(setting);
 
         eventPublisher.publishEvent(new CrudEvent<>(setting, CrudEventType.UPDATE));
 
         return setting;
     }
 
+    @Override
+    public Setting saveInternal(Setting setting) {
+        this.putRequest(INDEX_NAME, setting.getKey(), setting);
+
+        return setting;
+    }
 
     @Override
     public Setting delete(Setting setting) {
-        this.rawDeleteRequest(INDEX_NAME, setting.getKey());
+        this.deleteInternal(setting);
 
         eventPublisher.publishEvent(new CrudEvent<>(setting, CrudEventType.DELETE));
 
         return setting;
     }
 
+    @Override
+    public Setting deleteInternal(Setting setting) {
+        this.rawDeleteRequest(INDEX_NAME, setting.getKey());
+
+        return setting;
+    }
+
 }
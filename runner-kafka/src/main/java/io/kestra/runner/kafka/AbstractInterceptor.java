@@ -5,11 +5,11 @@ import io.kestra.core.serializers.JacksonMapper;
 import io.kestra.core.utils.ListUtils;
 import io.kestra.runner.kafka.configs.ClientConfig;
 import io.kestra.runner.kafka.configs.LoggerConfig;
+import io.kestra.runner.kafka.serializers.WireCodec;
 import io.kestra.runner.kafka.services.KafkaStreamService;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.core.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.kafka.common.serialization.StringDeserializer;
 import org.slf4j.event.Level;
 
 import java.time.Instant;
@@ -18,8 +18,6 @@ import java.util.Objects;
 
 @Slf4j
 public abstract class AbstractInterceptor {
-    private final static StringDeserializer STRING_DESERIALIZER = new StringDeserializer();
-
     ClientConfig clientConfig;
 
     protected <K, V> void logRecord(
@@ -133,7 +131,8 @@ public abstract class AbstractInterceptor {
 
     private String deserialize(Object value) {
         if (value instanceof byte[]) {
-            return STRING_DESERIALIZER.deserialize("", (byte[])value);
+            // binary wire formats are logged as json
+            return WireCodec.toLoggable((byte[]) value);
         } else if (value instanceof String) {
             return (String) value;
         } else {
@@ -17,6 +17,7 @@ import io.kestra.core.queues.QueueFactoryInterface;
 import io.kestra.core.queues.QueueInterface;
 import io.kestra.runner.kafka.configs.TopicsConfig;
 import io.kestra.runner.kafka.serializers.JsonDeserializer;
+import io.kestra.runner.kafka.serializers.WireCodec;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -37,7 +38,7 @@ public class KafkaExecutorProductionExceptionHandler implements org.apache.kafka
                 record.topic(),
                 record.partition(),
                 new String(record.key()),
-                new String(record.value()),
+                record.value() == null ? null : WireCodec.toLoggable(record.value()),
                 exception.getMessage(),
                 exception
             );
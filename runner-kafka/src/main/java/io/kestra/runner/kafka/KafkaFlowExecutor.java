@@ -1,10 +1,13 @@
 package io.kestra.runner.kafka;
 
+import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.flows.Flow;
 import io.kestra.core.runners.FlowExecutorInterface;
 import io.kestra.core.services.FlowService;
+import io.kestra.core.services.FlowTriggerIndex;
 import io.kestra.core.utils.Await;
 import io.kestra.runner.kafka.services.SafeKeyValueStore;
+import io.kestra.runner.kafka.streams.GlobalInMemoryStateProcessor;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import lombok.SneakyThrows;
@@ -12,24 +15,94 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Singleton
-public class KafkaFlowExecutor implements FlowExecutorInterface {
+public class KafkaFlowExecutor implements FlowExecutorInterface, GlobalInMemoryStateProcessor.ChangeListener<Flow> {
     @Inject
     private FlowService flowService;
     private SafeKeyValueStore<String, Flow> store;
     private Map<String, Flow> flowsLast;
 
+    // last revision of each flow, including the deleted one
+    private final Map<String, Flow> lastRevisions = new ConcurrentHashMap<>();
+
+    private final FlowTriggerIndex flowTriggerIndex = new FlowTriggerIndex();
+
     public synchronized void setFlows(List<Flow> flows) {
+        this.lastRevisions.clear();
+        flows.forEach(this::updateLastRevision);
+
         this.flowsLast = flowService.keepLastVersion(flows)
             .stream()
             .map(flow -> new AbstractMap.SimpleEntry<>(
                 flow.uidWithoutRevision(),
                 flow
             ))
-            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+            .collect(Collectors.toConcurrentMap(Map.Entry::getKey, Map.Entry::getValue));
+
+        this.flowTriggerIndex.snapshot(this.flowsLast.values());
+    }
+
+    @Override
+    public void snapshot(List<Flow> flows) {
+        this.setFlows(flows);
+    }
+
+    @Override
+    public synchronized void upsert(String key, Flow flow) {
+        if (this.flowsLast == null) {
+            return;
+        }
+
+        this.updateLastRevision(flow);
+        this.refreshLastVersion(flow.uidWithoutRevision());
+    }
+
+    @Override
+    public synchronized void delete(String key, Flow previous) {
+        if (this.flowsLast == null || previous == null) {
+            return;
+        }
+
+        String uid = previous.uidWithoutRevision();
+        Flow last = this.lastRevisions.get(uid);
+
+        // the removed revision was the last one, we need to look at the other revisions of this flow
+        if (last != null && last.getRevision().equals(previous.getRevision())) {
+            this.lastRevisions.remove(uid);
+
+            this.store
+                .prefix(uid + "_")
+                .filter(flow -> flow != null && flow.getNamespace().equals(previous.getNamespace()) && flow.getId().equals(previous.getId()))
+                .forEach(this::updateLastRevision);
+        }
+
+        this.refreshLastVersion(uid);
+    }
+
+    private void updateLastRevision(Flow flow) {
+        // same logic as FlowService.keepLastVersion, on the same revision the deleted one wins
+        this.lastRevisions.merge(
+            flow.uidWithoutRevision(),
+            flow,
+            (current, updated) -> updated.getRevision() > current.getRevision() ||
+                (updated.getRevision().equals(current.getRevision()) && updated.isDeleted()) ? updated : current
+        );
+    }
+
+    private void refreshLastVersion(String uid) {
+        Flow last = this.lastRevisions.get(uid);
+
+        if (last == null || last.isDeleted()) {
+            this.flowsLast.remove(uid);
+            this.flowTriggerIndex.remove(uid);
+        } else {
+            this.flowsLast.put(uid, last);
+            this.flowTriggerIndex.put(last);
+        }
     }
 
     public synchronized void setStore(SafeKeyValueStore<String, Flow> store) {
@@ -50,6 +123,15 @@ public class KafkaFlowExecutor implements FlowExecutorInterface {
         return this.flowsLast.values();
     }
 
+    /**
+     * @return the last version of the flows with a flow trigger that can match this execution
+     */
+    public Collection<Flow> flowTriggerCandidates(Execution execution) {
+        this.await();
+
+        return this.flowTriggerIndex.candidates(execution);
+    }
+
     @Override
     public Optional<Flow> findById(String namespace, String id, Optional<Integer> revision) {
         this.await();
@@ -4,7 +4,6 @@ import io.kestra.core.runners.FlowListeners;
 import io.kestra.runner.kafka.services.*;
 import io.micronaut.context.annotation.Replaces;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.lang3.NotImplementedException;
 import org.apache.kafka.common.serialization.Serdes;
 import org.apache.kafka.common.utils.Bytes;
 import org.apache.kafka.streams.KafkaStreams;
@@ -22,7 +21,10 @@ import io.kestra.runner.kafka.serializers.JsonSerde;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -37,9 +39,11 @@ public class KafkaFlowListeners implements FlowListenersInterface {
     private final KafkaAdminService kafkaAdminService;
     private final KafkaStreamService kafkaStreamService;
     private SafeKeyValueStore<String, Flow> store;
-    private final List<Consumer<List<Flow>>> consumers = new ArrayList<>();
+    private final List<Consumer<List<Flow>>> consumers = new CopyOnWriteArrayList<>();
+    private final List<BiConsumer<Flow, Flow>> consumersEach = new CopyOnWriteArrayList<>();
+    private final List<Consumer<List<Flow>>> consumersSnapshot = new CopyOnWriteArrayList<>();
     private KafkaStreamService.Stream stream;
-    private List<Flow> flows;
+    private Map<String, Flow> flows;
 
     @Inject
     public KafkaFlowListeners(KafkaAdminService kafkaAdminService, KafkaStreamService kafkaStreamService) {
@@ -62,6 +66,9 @@ public class KafkaFlowListeners implements FlowListenersInterface {
 
                     this.store = new SafeKeyValueStore<>(store, "flow");
                     this.send(this.flows());
+
+                    // the restored flows are not seen as changes, the snapshot is sent again after each start or rebalance
+                    this.sendSnapshot();
                 } catch (InvalidStateStoreException e) {
                     this.store = null;
                     log.warn(e.getMessage(), e);
@@ -90,11 +97,22 @@ public class KafkaFlowListeners implements FlowListenersInterface {
                 .filter((key, value) -> value != null)
                 .toStream()
                 .peek((key, value) -> {
-                    synchronized (this) {
-                        flows = null;
+                    // update only the changed flow, the whole store is only loaded once
+                    synchronized (KafkaFlowListeners.this) {
+                        Flow previous = null;
+
+                        if (flows != null) {
+                            previous = value.isDeleted() ? flows.remove(key) : flows.put(key, value);
+                        }
+
+                        // sent under the lock, so a change can't be received before a snapshot that already contains it
+                        sendEach(value, previous);
                     }
 
-                    send(flows());
+                    // the whole flows are only needed by the consumers that don't listen to the changes
+                    if (!consumers.isEmpty()) {
+                        send(flows());
+                    }
                 });
 
             Topology topology = builder.build();
@@ -116,14 +134,13 @@ public class KafkaFlowListeners implements FlowListenersInterface {
         synchronized (this) {
             if (this.flows == null) {
                 this.flows = this.store
-                    .all()
-                    .filter(flow -> flow != null && !flow.isDeleted())
-                    .collect(Collectors.toList());
+                    .allWithKey()
+                    .filter(keyValue -> keyValue.value != null && !keyValue.value.isDeleted())
+                    .collect(Collectors.toMap(keyValue -> keyValue.key, keyValue -> keyValue.value, (a, b) -> b, LinkedHashMap::new));
             }
-        }
 
-        //noinspection ConstantConditions
-        return this.flows == null ? new ArrayList<>() : this.flows;
+            return new ArrayList<>(this.flows.values());
+        }
     }
 
     private void send(List<Flow> flows) {
@@ -131,6 +148,16 @@ public class KafkaFlowListeners implements FlowListenersInterface {
             .forEach(consumer -> consumer.accept(flows));
     }
 
+    private synchronized void sendSnapshot() {
+        this.consumersSnapshot
+            .forEach(consumer -> consumer.accept(this.flows()));
+    }
+
+    private void sendEach(Flow flow, Flow previous) {
+        this.consumersEach
+            .forEach(consumer -> consumer.accept(flow, previous));
+    }
+
     @Override
     public void listen(Consumer<List<Flow>> consumer) {
         consumers.add(consumer);
@@ -139,6 +166,15 @@ public class KafkaFlowListeners implements FlowListenersInterface {
 
     @Override
     public void listen(BiConsumer<Flow, Flow> consumer) {
-        throw new NotImplementedException("Kafka runner don't need to listen on each flow changed since it's handle by stream");
+        consumersEach.add(consumer);
+    }
+
+    @Override
+    public void listen(Consumer<List<Flow>> snapshot, BiConsumer<Flow, Flow> changes) {
+        synchronized (this) {
+            consumersSnapshot.add(snapshot);
+            consumersEach.add(changes);
+            snapshot.accept(this.flows());
+        }
     }
 }
@@ -7,10 +7,12 @@ import io.kestra.core.models.triggers.Trigger;
 import io.kestra.core.queues.QueueFactoryInterface;
 import io.kestra.core.queues.QueueInterface;
 import io.kestra.core.queues.QueueService;
+import io.kestra.core.repositories.SettingRepositoryInterface;
 import io.kestra.core.runners.Executor;
 import io.kestra.core.schedulers.AbstractScheduler;
 import io.kestra.core.schedulers.DefaultScheduler;
 import io.kestra.core.schedulers.SchedulerExecutionWithTrigger;
+import io.kestra.core.schedulers.SchedulerInstanceLeases;
 import io.kestra.core.services.FlowListenersInterface;
 import io.kestra.core.utils.IdUtils;
 import io.kestra.runner.kafka.configs.TopicsConfig;
@@ -175,7 +177,13 @@ public class KafkaScheduler extends AbstractScheduler {
         this.triggerState =  new KafkaSchedulerTriggerState(
             stateStream.store(StoreQueryParameters.fromNameAndType(STATESTORE_TRIGGER, QueryableStoreTypes.keyValueStore())),
             triggerQueue,
-            triggerLock
+            triggerLock,
+            applicationContext.findBean(SettingRepositoryInterface.class)
+                .map(settingRepository -> new SchedulerInstanceLeases(
+                    settingRepository,
+                    applicationContext.getBean(ShardingConfiguration.class).getConsistencyWindow()
+                ))
+                .orElse(null)
         );
 
         this.executionState = new KafkaSchedulerExecutionState(
@@ -6,8 +6,11 @@ import org.apache.kafka.streams.state.ReadOnlyKeyValueStore;
 import io.kestra.core.models.triggers.Trigger;
 import io.kestra.core.models.triggers.TriggerContext;
 import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.schedulers.SchedulerInstance;
+import io.kestra.core.schedulers.SchedulerInstanceLeases;
 import io.kestra.core.schedulers.SchedulerTriggerStateInterface;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import jakarta.inject.Singleton;
@@ -20,15 +23,18 @@ public class KafkaSchedulerTriggerState implements SchedulerTriggerStateInterfac
     private final ReadOnlyKeyValueStore<String, Trigger> store;
     private final QueueInterface<Trigger> triggerQueue;
     private final Map<String, Trigger> triggerLock;
+    private final SchedulerInstanceLeases leases;
 
     public KafkaSchedulerTriggerState(
         ReadOnlyKeyValueStore<String, Trigger> store,
         QueueInterface<Trigger> triggerQueue,
-        Map<String, Trigger> triggerLock
+        Map<String, Trigger> triggerLock,
+        SchedulerInstanceLeases leases
     ) {
         this.store = store;
         this.triggerQueue = triggerQueue;
         this.triggerLock = triggerLock;
+        this.leases = leases;
     }
 
     @Override
@@ -44,4 +50,17 @@ public class KafkaSchedulerTriggerState implements SchedulerTriggerStateInterfac
 
         return trigger;
     }
+
+    @Override
+    public List<SchedulerInstance> heartbeat(SchedulerInstance instance) {
+        // without a setting repository, the leases can't be shared
+        return this.leases == null ? List.of(instance) : this.leases.heartbeat(instance);
+    }
+
+    @Override
+    public void release(SchedulerInstance instance) {
+        if (this.leases != null) {
+            this.leases.release(instance);
+        }
+    }
 }
@@ -6,6 +6,7 @@ import io.micronaut.inject.qualifiers.Qualifiers;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerGroupMetadata;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.producer.KafkaProducer;
@@ -35,6 +36,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import java.util.function.IntSupplier;
 import java.util.stream.Collectors;
 import jakarta.inject.Singleton;
 
@@ -81,6 +83,11 @@ public class KafkaWorkerTaskQueue implements WorkerTaskQueueInterface {
     }
 
     public Runnable receive(Class<?> consumerGroup, Consumer<WorkerTask> consumer) {
+        return this.receive(consumerGroup, consumer, () -> Integer.MAX_VALUE);
+    }
+
+    @Override
+    public Runnable receive(Class<?> consumerGroup, Consumer<WorkerTask> consumer, IntSupplier available) {
         AtomicBoolean running = new AtomicBoolean(true);
 
         poolExecutor.execute(() -> {
@@ -97,14 +104,29 @@ public class KafkaWorkerTaskQueue implements WorkerTaskQueueInterface {
 
             kafkaConsumer.subscribe(Collections.singleton(topicsConfigWorkerTask.getName()));
 
+            boolean stopping = false;
+
             while (running.get()) {
                 try {
+                    // the worker is full: we keep polling (so the consumer stay in the group) but on paused partitions
+                    // in order to not claim any worker task that would wait in memory
+                    int capacity = available.getAsInt();
+                    if (!stopping) {
+                        if (capacity <= 0) {
+                            kafkaConsumer.pause(kafkaConsumer.assignment());
+                        } else if (kafkaConsumer.paused().size() > 0) {
+                            kafkaConsumer.resume(kafkaConsumer.paused());
+                        }
+                    }
+
                     ConsumerRecords<String, WorkerTask> records = kafkaConsumer.poll(Duration.ofMillis(500));
 
-                    if (!records.isEmpty()) {
+                    List<ConsumerRecord<String, WorkerTask>> accepted = this.accept(kafkaConsumer, records, capacity);
+
+                    if (!accepted.isEmpty()) {
                         kafkaProducer.beginTransaction();
 
-                        records.forEach(record -> {
+                        accepted.forEach(record -> {
                             if (workerInstance.get() == null) {
                                 Await.until(() -> workerInstance.get() != null);
                             }
@@ -125,13 +147,13 @@ public class KafkaWorkerTaskQueue implements WorkerTaskQueueInterface {
                         // we commit first all offset before submit task to worker
 
                         kafkaProducer.sendOffsetsToTransaction(
-                            KafkaConsumerService.maxOffsets(records),
+                            KafkaConsumerService.maxOffsets(accepted),
                             new ConsumerGroupMetadata(kafkaConfigService.getConsumerGroupName(consumerGroup))
                         );
                         kafkaProducer.commitTransaction();
 
                         // now, we can submit to worker to be sure we don't have a WorkerTaskResult before commiting the offset!
-                        records.forEach(record -> {
+                        accepted.forEach(record -> {
                             consumer.accept(record.value());
                         });
                     }
@@ -139,7 +161,8 @@ public class KafkaWorkerTaskQueue implements WorkerTaskQueueInterface {
                     log.debug("Received Wakeup on {}!", this.getClass().getName());
 
                     // first call, we want to shutdown, so pause the consumer, will be closed after properly on second call
-                    if (kafkaConsumer.paused().size() == 0) {
+                    if (!stopping) {
+                        stopping = true;
                         kafkaConsumer.pause(kafkaConsumer.assignment());
                     } else {
                         running.set(false);
@@ -154,6 +177,31 @@ public class KafkaWorkerTaskQueue implements WorkerTaskQueueInterface {
         return () -> running.set(false);
     }
 
+    /**
+     * Keep only the records the worker can accept now, the consumer is rewound on the others so they will be fetched
+     * again (by this worker or another one after a rebalance) without being committed.
+     */
+    private List<ConsumerRecord<String, WorkerTask>> accept(
+        org.apache.kafka.clients.consumer.Consumer<String, WorkerTask> kafkaConsumer,
+        ConsumerRecords<String, WorkerTask> records,
+        int capacity
+    ) {
+        List<ConsumerRecord<String, WorkerTask>> accepted = new ArrayList<>();
+        Map<TopicPartition, Long> rewinds = new HashMap<>();
+
+        records.forEach(record -> {
+            if (accepted.size() < capacity) {
+                accepted.add(record);
+            } else {
+                rewinds.merge(new TopicPartition(record.topic(), record.partition()), record.offset(), Math::min);
+            }
+        });
+
+        rewinds.forEach(kafkaConsumer::seek);
+
+        return accepted;
+    }
+
     private ConsumerRebalanceListener consumerRebalanceListener() {
         return new ConsumerRebalanceListener() {
             @Override
@@ -1,5 +1,6 @@
 package io.kestra.runner.kafka.configs;
 
+import io.kestra.runner.kafka.serializers.WireFormat;
 import io.micronaut.context.annotation.ConfigurationProperties;
 import io.micronaut.core.convert.format.MapFormat;
 import lombok.Getter;
@@ -13,6 +14,8 @@ public class TopicDefaultsConfig {
 
     short replicationFactor = 1;
 
+    WireFormat format = WireFormat.JSON;
+
     @MapFormat(transformation = MapFormat.MapTransformation.FLAT)
     Map<String, String> properties;
 }
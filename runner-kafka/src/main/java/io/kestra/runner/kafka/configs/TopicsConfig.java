@@ -1,5 +1,6 @@
 package io.kestra.runner.kafka.configs;
 
+import io.kestra.runner.kafka.serializers.WireFormat;
 import io.micronaut.context.annotation.EachProperty;
 import io.micronaut.context.annotation.Parameter;
 import io.micronaut.core.convert.format.MapFormat;
@@ -20,6 +21,9 @@ public class TopicsConfig {
 
     Short replicationFactor;
 
+    // the format of the written messages, the default topic one if null
+    WireFormat format;
+
     @MapFormat(transformation = MapFormat.MapTransformation.FLAT)
     Map<String, String> properties;
 
@@ -46,7 +46,7 @@ public class ExecutorStore implements KafkaExecutorInterface {
             Consumed.with(Serdes.String(), JsonSerde.of(Flow.class)).withName("GlobalStore.Flow"),
             () -> new GlobalInMemoryStateProcessor<>(
                 FLOW_STATE_STORE_NAME,
-                flows -> kafkaFlowExecutor.setFlows(flows),
+                kafkaFlowExecutor,
                 store -> kafkaFlowExecutor.setStore(store)
             )
         );
@@ -1,16 +1,15 @@
 package io.kestra.runner.kafka.serializers;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.kafka.common.errors.SerializationException;
 import org.apache.kafka.common.serialization.Deserializer;
-import io.kestra.core.serializers.JacksonMapper;
 
 import java.io.IOException;
 import java.util.Map;
 
+/**
+ * Deserialize json or any {@link WireFormat} detected from the message header.
+ */
 public class JsonDeserializer<T> implements Deserializer<T> {
-    private static final ObjectMapper mapper = JacksonMapper.ofJson(false);
-
     private Class<T> cls;
     private boolean strict;
 
@@ -40,7 +39,7 @@ public class JsonDeserializer<T> implements Deserializer<T> {
         }
 
         try {
-            return mapper.readValue(bytes, this.cls);
+            return WireCodec.decode(bytes, this.cls);
         } catch (IOException e) {
             if (strict) {
                 throw new SerializationException(e);
@@ -1,16 +1,16 @@
 package io.kestra.runner.kafka.serializers;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.kafka.common.errors.SerializationException;
 import org.apache.kafka.common.serialization.Serializer;
 import io.kestra.core.serializers.JacksonMapper;
 
+import java.io.IOException;
 import java.util.Map;
 
+/**
+ * Serialize with the {@link WireFormat} of the topic, json by default.
+ */
 public class JsonSerializer<T> extends JacksonMapper implements Serializer<T> {
-    private static final ObjectMapper mapper = JacksonMapper.ofJson(false);
-
     public JsonSerializer() {
         super();
     }
@@ -25,8 +25,8 @@ public class JsonSerializer<T> extends JacksonMapper implements Serializer<T> {
             return null;
         }
         try {
-            return mapper.writeValueAsBytes(message);
-        } catch (JsonProcessingException e) {
+            return WireCodec.encode(topic, message);
+        } catch (IOException e) {
             throw new SerializationException(e);
         }
     }
@@ -0,0 +1,99 @@
+package io.kestra.runner.kafka.serializers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Encode &amp; decode the messages with the {@link WireFormat} configured for their topic.
+ * <p>
+ * Binary formats are written with a header: a zero byte, that can't start a json document, the codec version and the
+ * format id. Json is written without header, so the messages written before the header existed stay readable.
+ * Decoding always detects the format, so a topic can be migrated without downtime: first deploy a version that can
+ * read the new format on all the instances, then change the format of the topic, old &amp; new messages will be read.
+ */
+public abstract class WireCodec {
+    private static final byte MAGIC = 0;
+    private static final byte VERSION = 1;
+    private static final int HEADER_SIZE = 3;
+
+    private static volatile WireFormat defaultFormat = WireFormat.JSON;
+    private static volatile Map<String, WireFormat> topicsFormat = Map.of();
+
+    /**
+     * @param defaultFormat the format of the topics &amp; state stores without a specific format
+     * @param topicsFormat the format by topic name, state stores use the name of their changelog topic
+     */
+    public static void configure(WireFormat defaultFormat, Map<String, WireFormat> topicsFormat) {
+        WireCodec.defaultFormat = defaultFormat;
+        WireCodec.topicsFormat = Map.copyOf(topicsFormat);
+    }
+
+    public static WireFormat format(String topic) {
+        return topic == null ? defaultFormat : topicsFormat.getOrDefault(topic, defaultFormat);
+    }
+
+    public static byte[] encode(String topic, Object value) throws IOException {
+        WireFormat format = format(topic);
+
+        if (format == WireFormat.JSON) {
+            return format.mapper.writeValueAsBytes(value);
+        }
+
+        byte[] body = format.mapper.writeValueAsBytes(value);
+        byte[] bytes = new byte[HEADER_SIZE + body.length];
+
+        bytes[0] = MAGIC;
+        bytes[1] = VERSION;
+        bytes[2] = format.id;
+        System.arraycopy(body, 0, bytes, HEADER_SIZE, body.length);
+
+        return bytes;
+    }
+
+    public static <T> T decode(byte[] bytes, Class<T> cls) throws IOException {
+        if (isJson(bytes)) {
+            return WireFormat.JSON.mapper.readValue(bytes, cls);
+        }
+
+        if (bytes.length < HEADER_SIZE) {
+            throw new IOException("Invalid wire header " + Arrays.toString(bytes));
+        }
+
+        if (bytes[1] != VERSION) {
+            throw new IOException("Unsupported wire codec version '" + bytes[1] + "'");
+        }
+
+        return WireFormat.of(bytes[2]).mapper.readValue(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE, cls);
+    }
+
+    /**
+     * Convert a message of any format to json, for the consumers that don't deserialize the messages (indexer, logs).
+     * Json messages are returned as is, without being parsed.
+     */
+    public static String toJson(byte[] bytes) throws IOException {
+        if (isJson(bytes)) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        return WireFormat.JSON.mapper.writeValueAsString(decode(bytes, JsonNode.class));
+    }
+
+    /**
+     * Same as {@link #toJson(byte[])} for logs, an invalid message is returned as a raw string.
+     */
+    public static String toLoggable(byte[] bytes) {
+        try {
+            return toJson(bytes);
+        } catch (IOException e) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static boolean isJson(byte[] bytes) {
+        return bytes.length == 0 || bytes[0] != MAGIC;
+    }
+}
@@ -0,0 +1,30 @@
+package io.kestra.runner.kafka.serializers;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.kestra.core.serializers.JacksonMapper;
+
+/**
+ * Format of the messages written on the topics &amp; state stores, see {@link WireCodec}.
+ */
+public enum WireFormat {
+    JSON((byte) 0, JacksonMapper.ofJson(false)),
+    SMILE((byte) 1, JacksonMapper.ofSmile(false));
+
+    final byte id;
+    final ObjectMapper mapper;
+
+    WireFormat(byte id, ObjectMapper mapper) {
+        this.id = id;
+        this.mapper = mapper;
+    }
+
+    static WireFormat of(byte id) {
+        for (WireFormat format : values()) {
+            if (format.id == id) {
+                return format;
+            }
+        }
+
+        throw new IllegalArgumentException("Unknown wire format '" + id + "'");
+    }
+}
@@ -15,10 +15,12 @@ import io.kestra.core.metrics.MetricRegistry;
 import io.kestra.runner.kafka.configs.ClientConfig;
 import io.kestra.runner.kafka.configs.TopicDefaultsConfig;
 import io.kestra.runner.kafka.configs.TopicsConfig;
+import io.kestra.runner.kafka.serializers.WireCodec;
 
 import java.util.*;
 import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
@@ -45,6 +47,18 @@ public class KafkaAdminService implements AutoCloseable {
     @Value("${kestra.server.metrics.kafka.admin:true}")
     protected Boolean metricsEnabled;
 
+    @PostConstruct
+    public void configureWireFormat() {
+        // the admin service is used to resolve all the topic names, so it's created before any message is written
+        WireCodec.configure(
+            topicDefaultsConfig.getFormat(),
+            topicsConfig
+                .stream()
+                .filter(topicConfig -> topicConfig.getFormat() != null && topicConfig.getName() != null)
+                .collect(Collectors.toMap(TopicsConfig::getName, TopicsConfig::getFormat))
+        );
+    }
+
     public AdminClient of() {
         if (this.adminClient == null) {
             Properties properties = new Properties();
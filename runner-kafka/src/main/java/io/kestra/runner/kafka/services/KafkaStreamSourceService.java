@@ -1,11 +1,10 @@
 package io.kestra.runner.kafka.services;
 
-import io.kestra.core.exceptions.InternalException;
 import io.kestra.core.models.flows.Flow;
 import io.kestra.core.models.triggers.Trigger;
 import io.kestra.core.runners.Executor;
 import io.kestra.core.runners.FlowExecutorInterface;
-import io.kestra.core.services.TaskDefaultService;
+import io.kestra.core.services.FlowTransformService;
 import io.kestra.core.tasks.flows.Template;
 import io.kestra.core.utils.Await;
 import io.kestra.runner.kafka.serializers.JsonSerde;
@@ -33,7 +32,7 @@ public class KafkaStreamSourceService {
     private KafkaAdminService kafkaAdminService;
 
     @Inject
-    private TaskDefaultService taskDefaultService;
+    private FlowTransformService flowTransformService;
 
     @Inject
     private FlowExecutorInterface flowExecutorInterface;
@@ -104,17 +103,7 @@ public class KafkaStreamSourceService {
             return executor.withFlow(flow);
         }
 
-        try {
-            flow = Template.injectTemplate(
-                flow,
-                executor.getExecution(),
-                (namespace, id) -> this.templateExecutorInterface.findById(namespace, id).orElse(null)
-            );
-        } catch (InternalException e) {
-            log.debug("Failed to inject template",  e);
-        }
-
-        Flow flowWithDefaults = taskDefaultService.injectDefaults(flow, executor.getExecution());
+        Flow flowWithDefaults = flowTransformService.transform(flow, executor.getExecution(), this.templateExecutorInterface);
 
         return executor.withFlow(flowWithDefaults);
     }
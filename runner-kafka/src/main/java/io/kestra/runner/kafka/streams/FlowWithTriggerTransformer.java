@@ -29,7 +29,7 @@ public class FlowWithTriggerTransformer implements Transformer<String, Executor,
     public Iterable<KeyValue<String, ExecutorFlowTrigger>> transform(String key, Executor value) {
         // flowWithFlowTrigger return 1 result per flow per trigger but since we analysed the whole flow on FlowTrigger
         // we deduplicate by flow
-        return flowService.flowWithFlowTrigger(kafkaFlowExecutor.allLastVersion().stream())
+        return flowService.flowWithFlowTrigger(kafkaFlowExecutor.flowTriggerCandidates(value.getExecution()).stream())
             .stream()
             .collect(Collectors.toMap(o -> o.getFlow().uidWithoutRevision(), p -> p, (p, q) -> p)).values()
             .stream()
@@ -11,10 +11,15 @@ import java.util.List;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+/**
+ * Keep a global store up to date and notify the changes, either by sending all the values of the store on each
+ * record or, with a {@link ChangeListener}, by sending the values once and then only the changed record.
+ */
 @Slf4j
 public class GlobalInMemoryStateProcessor<T> implements Processor<String, T, Void, Void> {
     private final String storeName;
     private final Consumer<List<T>> consumer;
+    private final ChangeListener<T> changeListener;
     private final Consumer<SafeKeyValueStore<String, T>> storeConsumer;
     private KeyValueStore<String, T> store;
     private SafeKeyValueStore<String, T> safeStore;
@@ -26,6 +31,14 @@ public class GlobalInMemoryStateProcessor<T> implements Processor<String, T, Voi
     public GlobalInMemoryStateProcessor(String storeName, Consumer<List<T>> consumer, Consumer<SafeKeyValueStore<String, T>> storeConsumer) {
         this.storeName = storeName;
         this.consumer = consumer;
+        this.changeListener = null;
+        this.storeConsumer = storeConsumer;
+    }
+
+    public GlobalInMemoryStateProcessor(String storeName, ChangeListener<T> changeListener, Consumer<SafeKeyValueStore<String, T>> storeConsumer) {
+        this.storeName = storeName;
+        this.consumer = null;
+        this.changeListener = changeListener;
         this.storeConsumer = storeConsumer;
     }
 
@@ -38,24 +51,50 @@ public class GlobalInMemoryStateProcessor<T> implements Processor<String, T, Voi
             this.storeConsumer.accept(this.safeStore);
         }
 
-        this.send();
+        if (this.changeListener != null) {
+            this.changeListener.snapshot(this.safeStore.all().collect(Collectors.toList()));
+        } else {
+            this.send();
+        }
     }
 
     @Override
     public void process(Record<String, T> record) {
         if (record.value() == null) {
+            T previous = this.changeListener != null ? this.safeStore.get(record.key()).orElse(null) : null;
             this.store.delete(record.key());
+
+            if (this.changeListener != null) {
+                this.changeListener.delete(record.key(), previous);
+            }
         } else {
             this.store.put(record.key(), record.value());
+
+            if (this.changeListener != null) {
+                this.changeListener.upsert(record.key(), record.value());
+            }
         }
 
-        this.send();
+        if (this.changeListener == null) {
+            this.send();
+        }
     }
 
     private void send() {
         consumer.accept(this.safeStore.all().collect(Collectors.toList()));
     }
 
+    /**
+     * Receive the values of a global store once, then each change in the order of the records.
+     */
+    public interface ChangeListener<T> {
+        void snapshot(List<T> values);
+
+        void upsert(String key, T value);
+
+        void delete(String key, T previous);
+    }
+
     @Override
     public void close() {
 
@@ -0,0 +1,86 @@
+package io.kestra.runner.kafka;
+
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.tasks.debugs.Return;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.runner.kafka.serializers.JsonSerde;
+import io.kestra.runner.kafka.services.KafkaAdminService;
+import io.kestra.runner.kafka.services.KafkaProducerService;
+import io.kestra.runner.kafka.services.KafkaStreamSourceService;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import jakarta.inject.Inject;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@MicronautTest
+@Property(name = "kestra.server-type", value = "EXECUTOR")
+class KafkaFlowListenersSnapshotTest {
+    @Inject
+    KafkaFlowListeners flowListenersService;
+
+    @Inject
+    KafkaAdminService kafkaAdminService;
+
+    @Inject
+    KafkaProducerService kafkaProducerService;
+
+    @Test
+    void existingFlowsSentOnRunning() throws Exception {
+        Flow flow = Flow.builder()
+            .id(IdUtils.create())
+            .namespace("io.kestra.unittest")
+            .revision(1)
+            .tasks(Collections.singletonList(Return.builder()
+                .id("test")
+                .type(Return.class.getName())
+                .format("test")
+                .build()))
+            .build();
+
+        // the flow exists before the listeners are started, it will only come back from the store restore
+        kafkaAdminService.createIfNotExist(KafkaStreamSourceService.TOPIC_FLOWLAST);
+
+        try (KafkaProducerService.Producer<Flow> producer = kafkaProducerService.of(
+            KafkaFlowListenersSnapshotTest.class,
+            JsonSerde.of(Flow.class)
+        )) {
+            producer.send(new ProducerRecord<>(
+                kafkaAdminService.getTopicName(KafkaStreamSourceService.TOPIC_FLOWLAST),
+                flow.uidWithoutRevision(),
+                flow
+            )).get();
+        }
+
+        List<List<Flow>> snapshots = new CopyOnWriteArrayList<>();
+        CountDownLatch countDownLatch = new CountDownLatch(1);
+
+        // same as the scheduler: listen just after run, before the stream is running
+        flowListenersService.run();
+        flowListenersService.listen(
+            flows -> {
+                snapshots.add(flows);
+
+                if (flows.stream().anyMatch(f -> f.getId().equals(flow.getId()))) {
+                    countDownLatch.countDown();
+                }
+            },
+            (current, previous) -> {}
+        );
+
+        countDownLatch.await(1, TimeUnit.MINUTES);
+
+        assertThat(countDownLatch.getCount(), is(0L));
+        assertThat(snapshots.get(snapshots.size() - 1).stream().map(Flow::getId).collect(Collectors.toList()), hasItem(flow.getId()));
+    }
+}
@@ -0,0 +1,64 @@
+package io.kestra.runner.kafka.serializers;
+
+import io.kestra.core.models.flows.State;
+import io.kestra.core.models.executions.Execution;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+class WireCodecTest {
+    private static final Execution EXECUTION = Execution.builder()
+        .id("execution")
+        .namespace("io.kestra.unittest")
+        .flowId("flow")
+        .flowRevision(1)
+        .state(new State())
+        .build();
+
+    @AfterEach
+    void reset() {
+        WireCodec.configure(WireFormat.JSON, Map.of());
+    }
+
+    @Test
+    void json() throws Exception {
+        byte[] bytes = WireCodec.encode("execution", EXECUTION);
+
+        // no header for json, readable by previous versions
+        assertThat(new String(bytes, StandardCharsets.UTF_8).startsWith("{"), is(true));
+        assertThat(WireCodec.decode(bytes, Execution.class), is(EXECUTION));
+    }
+
+    @Test
+    void smile() throws Exception {
+        WireCodec.configure(WireFormat.JSON, Map.of("execution", WireFormat.SMILE));
+
+        byte[] json = WireCodec.encode("other", EXECUTION);
+        byte[] smile = WireCodec.encode("execution", EXECUTION);
+
+        assertThat(smile[0], is((byte) 0));
+        assertThat(smile.length, lessThan(json.length));
+
+        // both can be read whatever the configured format
+        assertThat(WireCodec.decode(smile, Execution.class), is(EXECUTION));
+        assertThat(WireCodec.decode(json, Execution.class), is(EXECUTION));
+    }
+
+    @Test
+    void toJson() throws Exception {
+        WireCodec.configure(WireFormat.JSON, Map.of("execution", WireFormat.SMILE));
+
+        byte[] json = WireCodec.encode("other", EXECUTION);
+        byte[] smile = WireCodec.encode("execution", EXECUTION);
+
+        // json is returned as is, smile is converted
+        assertThat(WireCodec.toJson(json), is(new String(json, StandardCharsets.UTF_8)));
+        assertThat(WireCodec.decode(WireCodec.toJson(smile).getBytes(StandardCharsets.UTF_8), Execution.class), is(EXECUTION));
+    }
+}
@@ -37,7 +37,7 @@ public class MemoryExecutor implements ExecutorInterface {
     private static final MemoryMultipleConditionStorage multipleConditionStorage = new MemoryMultipleConditionStorage();
     private static final ConcurrentHashMap<String, ExecutionState> EXECUTIONS = new ConcurrentHashMap<>();
     private static final ConcurrentHashMap<String, WorkerTaskExecution> WORKERTASKEXECUTIONS_WATCHER = new ConcurrentHashMap<>();
-    private List<Flow> allFlows;
+    private final FlowTriggerIndex flowTriggerIndex = new FlowTriggerIndex();
     private final ScheduledExecutorService schedulerDelay = Executors.newSingleThreadScheduledExecutor();
 
     @Inject
@@ -66,7 +66,7 @@ public class MemoryExecutor implements ExecutorInterface {
     private FlowService flowService;
 
     @Inject
-    private TaskDefaultService taskDefaultService;
+    private FlowTransformService flowTransformService;
 
     @Inject
     private Template.TemplateExecutorInterface templateExecutorInterface;
@@ -92,7 +92,7 @@ public class MemoryExecutor implements ExecutorInterface {
     @Override
     public void run() {
         flowListeners.run();
-        flowListeners.listen(flows -> this.allFlows = flows);
+        flowListeners.listen(flowTriggerIndex::snapshot, flowTriggerIndex::update);
 
         applicationContext.registerSingleton(new DefaultFlowExecutor(flowListeners, this.flowRepository));
 
@@ -107,17 +107,7 @@ public class MemoryExecutor implements ExecutorInterface {
     }
 
     private Flow transform(Flow flow, Execution execution) {
-        try {
-            flow = Template.injectTemplate(
-                flow,
-                execution,
-                (namespace, id) -> templateExecutorInterface.findById(namespace, id).orElse(null)
-            );
-        } catch (InternalException e) {
-            log.debug("Failed to inject template",  e);
-        }
-
-        return taskDefaultService.injectDefaults(flow, execution);
+        return flowTransformService.transform(flow, execution, templateExecutorInterface);
     }
 
     private void handleExecution(ExecutionState state) {
@@ -218,20 +208,23 @@ public class MemoryExecutor implements ExecutorInterface {
 
             // multiple condition
             if (conditionService.isTerminatedWithListeners(flow, execution)) {
+                // only the flows with a trigger that can match this execution
+                List<Flow> candidates = flowTriggerIndex.candidates(execution);
+
                 // multiple conditions storage
                 multipleConditionStorage.save(
                     flowService
-                        .multipleFlowTrigger(allFlows.stream(), flow, execution, multipleConditionStorage)
+                        .multipleFlowTrigger(candidates.stream(), flow, execution, multipleConditionStorage)
                 );
 
                 // Flow Trigger
                 flowService
-                    .flowTriggerExecution(allFlows.stream(), execution, multipleConditionStorage)
+                    .flowTriggerExecution(candidates.stream(), execution, multipleConditionStorage)
                     .forEach(this.executionQueue::emit);
 
                 // Trigger is done, remove matching multiple condition
                 flowService
-                    .multipleFlowToDelete(allFlows.stream(), multipleConditionStorage)
+                    .multipleFlowToDelete(candidates.stream(), multipleConditionStorage)
                     .forEach(multipleConditionStorage::delete);
             }
 
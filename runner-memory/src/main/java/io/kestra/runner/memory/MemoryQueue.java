@@ -52,6 +52,15 @@ public class MemoryQueue<T> implements QueueInterface<T> {
             log.trace("New message: topic '{}', value {}", this.cls.getName(), message);
         }
 
+        // we force serialization to be a the same case than an another queue with serialization
+        // this enabled debugging classLoader, serialized once and deserialized by each consumer group
+        byte[] value;
+        try {
+            value = message == null ? null : mapper.writeValueAsBytes(message);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException(e);
+        }
+
         this.consumers
             .forEach((consumerGroup, consumers) -> {
                 poolExecutor.execute(() -> {
@@ -67,12 +76,10 @@ public class MemoryQueue<T> implements QueueInterface<T> {
                         }
                     }
 
-                    // we force serialization to be a the same case than an another queue with serialization
-                    // this enabled debugging classLoader
                     try {
-                        T serialized = message == null ? null : mapper.readValue(mapper.writeValueAsString(message), this.cls);
+                        T serialized = value == null ? null : mapper.readValue(value, this.cls);
                         consumer.accept(serialized);
-                    } catch (JsonProcessingException e) {
+                    } catch (IOException e) {
                         throw new RuntimeException(e);
                     }
                 });
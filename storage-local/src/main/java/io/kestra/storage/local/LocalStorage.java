@@ -1,14 +1,14 @@
 package io.kestra.storage.local;
 
 import io.kestra.core.storages.StorageInterface;
+import org.apache.commons.io.input.BoundedInputStream;
 import org.apache.commons.lang3.tuple.Pair;
 
 import java.io.*;
 import java.net.URI;
-import java.nio.file.Files;
-import java.nio.file.NoSuchFileException;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
 import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -56,6 +56,20 @@ public class LocalStorage implements StorageInterface {
         );
     }
 
+    @Override
+    public InputStream get(URI uri, long offset, long length) throws IOException {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(getPath(URI.create(uri.getPath())), StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            throw new FileNotFoundException("Unable to find file at '" + uri + "'");
+        }
+
+        channel.position(offset);
+
+        return new BufferedInputStream(new BoundedInputStream(Channels.newInputStream(channel), length));
+    }
+
     @Override
     public Long size(URI uri) throws IOException {
         try {
@@ -82,6 +96,57 @@ public class LocalStorage implements StorageInterface {
         return URI.create("kestra://" + uri.getPath());
     }
 
+    @Override
+    public URI put(URI uri, Path file) throws IOException {
+        this.createDirectory(uri);
+
+        Path target = getPath(uri);
+
+        try {
+            // same filesystem, a simple rename
+            Files.move(file, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            // another filesystem, let the kernel copy the file
+            try (
+                FileChannel in = FileChannel.open(file, StandardOpenOption.READ);
+                FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)
+            ) {
+                long size = in.size();
+                long position = 0;
+
+                while (position < size) {
+                    position += in.transferTo(position, size - position, out);
+                }
+            }
+
+            Files.delete(file);
+        }
+
+        return URI.create("kestra://" + uri.getPath());
+    }
+
+    @Override
+    public URI compose(List<URI> uris, URI uri) throws IOException {
+        this.createDirectory(uri);
+
+        try (FileChannel out = FileChannel.open(getPath(uri), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (URI from : uris) {
+                try (FileChannel in = FileChannel.open(getPath(URI.create(from.getPath())), StandardOpenOption.READ)) {
+                    long size = in.size();
+                    long position = 0;
+
+                    while (position < size) {
+                        position += in.transferTo(position, size - position, out);
+                    }
+                } catch (NoSuchFileException e) {
+                    throw new FileNotFoundException("Unable to find file at '" + from + "'");
+                }
+            }
+        }
+
+        return URI.create("kestra://" + uri.getPath());
+    }
+
     @Override
     public boolean delete(URI uri) throws IOException {
         File file = getPath(URI.create(uri.getPath())).toFile();
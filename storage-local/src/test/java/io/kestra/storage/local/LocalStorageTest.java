@@ -12,6 +12,8 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URI;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
@@ -91,6 +93,52 @@ class LocalStorageTest {
         });
     }
 
+    @Test
+    void putFile() throws Exception {
+        String prefix = IdUtils.create();
+
+        Path file = Files.createTempFile("put", ".yml");
+        Files.writeString(file, "content");
+
+        URI put = storageInterface.put(new URI("/" + prefix + "/storage/file.yml"), file);
+        InputStream get = storageInterface.get(new URI("/" + prefix + "/storage/file.yml"));
+
+        assertThat(put.toString(), is(new URI("kestra:///" + prefix + "/storage/file.yml").toString()));
+        assertThat(CharStreams.toString(new InputStreamReader(get)), is("content"));
+        assertThat(Files.exists(file), is(false));
+    }
+
+    @Test
+    void range() throws Exception {
+        String prefix = IdUtils.create();
+
+        Path file = Files.createTempFile("range", ".txt");
+        Files.writeString(file, "0123456789");
+        URI put = storageInterface.put(new URI("/" + prefix + "/storage/range.txt"), file);
+
+        assertThat(CharStreams.toString(new InputStreamReader(storageInterface.get(put, 2, 3))), is("234"));
+        assertThat(CharStreams.toString(new InputStreamReader(storageInterface.get(put, 8, 10))), is("89"));
+
+        assertThrows(FileNotFoundException.class, () -> {
+            storageInterface.get(new URI("/" + prefix + "/storage/missing.txt"), 0, 10);
+        });
+    }
+
+    @Test
+    void compose() throws Exception {
+        String prefix = IdUtils.create();
+
+        List<URI> uris = Arrays.asList(
+            storageInterface.put(new URI("/" + prefix + "/storage/1.txt"), Files.writeString(Files.createTempFile("compose", ".txt"), "first")),
+            storageInterface.put(new URI("/" + prefix + "/storage/2.txt"), Files.writeString(Files.createTempFile("compose", ".txt"), "second"))
+        );
+
+        URI compose = storageInterface.compose(uris, new URI("/" + prefix + "/storage/compose.txt"));
+
+        assertThat(compose.toString(), is(new URI("kestra:///" + prefix + "/storage/compose.txt").toString()));
+        assertThat(CharStreams.toString(new InputStreamReader(storageInterface.get(compose))), is("firstsecond"));
+    }
+
     @Test
     void deleteByPrefix() throws Exception {
         String prefix = IdUtils.create();
@@ -51,6 +51,7 @@ import io.kestra.core.services.ExecutionService;
 import io.kestra.core.storages.StorageInterface;
 import io.kestra.core.utils.Await;
 import io.kestra.webserver.responses.PagedResults;
+import io.kestra.webserver.services.ExecutionFollowService;
 import io.kestra.webserver.utils.PageableUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.reactivestreams.Publisher;
@@ -109,6 +110,9 @@ public class ExecutionController {
     @Inject
     private RunContextFactory runContextFactory;
 
+    @Inject
+    private ExecutionFollowService executionFollowService;
+
     @ExecuteOn(TaskExecutors.IO)
     @Get(uri = "executions/search", produces = MediaType.TEXT_JSON)
     @Operation(tags = {"Executions"}, summary = "Search for executions")
@@ -597,20 +601,17 @@ public class ExecutionController {
                 emitter.onNext(Event.of(execution).id("progress"));
 
                 // consume new value
-                Runnable receive = this.executionQueue.receive(current -> {
-                    if (current.getId().equals(executionId)) {
-
-                        emitter.onNext(Event.of(current).id("progress"));
+                Runnable receive = this.executionFollowService.followExecution(executionId, current -> {
+                    emitter.onNext(Event.of(current).id("progress"));
 
-                        if (this.isStopFollow(flow, current)) {
-                            emitter.onNext(Event.of(current).id("end"));
-                            emitter.onComplete();
-                        }
+                    if (this.isStopFollow(flow, current)) {
+                        emitter.onNext(Event.of(current).id("end"));
+                        emitter.onComplete();
                     }
                 });
 
                 cancel.set(receive);
-            }, BackpressureStrategy.BUFFER)
+            }, BackpressureStrategy.LATEST)
             .doOnCancel(() -> {
                 if (cancel.get() != null) {
                     cancel.get().run();
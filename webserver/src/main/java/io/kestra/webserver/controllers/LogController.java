@@ -10,16 +10,17 @@ import io.micronaut.http.sse.Event;
 import io.micronaut.scheduling.TaskExecutors;
 import io.micronaut.scheduling.annotation.ExecuteOn;
 import io.micronaut.validation.Validated;
+import io.reactivex.BackpressureOverflowStrategy;
 import io.reactivex.BackpressureStrategy;
 import io.reactivex.Flowable;
 import io.kestra.core.models.executions.LogEntry;
-import io.kestra.core.queues.QueueFactoryInterface;
-import io.kestra.core.queues.QueueInterface;
 import io.kestra.core.repositories.LogRepositoryInterface;
 import io.kestra.webserver.responses.PagedResults;
+import io.kestra.webserver.services.ExecutionFollowService;
 import io.kestra.webserver.utils.PageableUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import lombok.extern.slf4j.Slf4j;
 import org.slf4j.event.Level;
 
 import java.time.ZonedDateTime;
@@ -27,8 +28,8 @@ import java.util.List;
 import java.util.concurrent.atomic.AtomicReference;
 import io.micronaut.core.annotation.Nullable;
 import jakarta.inject.Inject;
-import jakarta.inject.Named;
 
+@Slf4j
 @Validated
 @Controller("/api/v1/")
 @Requires(beans = LogRepositoryInterface.class)
@@ -37,8 +38,7 @@ public class LogController {
     private LogRepositoryInterface logRepository;
 
     @Inject
-    @Named(QueueFactoryInterface.WORKERTASKLOG_NAMED)
-    protected QueueInterface<LogEntry> logQueue;
+    private ExecutionFollowService executionFollowService;
 
     @ExecuteOn(TaskExecutors.IO)
     @Get(uri = "logs/search", produces = MediaType.TEXT_JSON)
@@ -96,16 +96,20 @@ public class LogController {
                     .forEach(logEntry -> emitter.onNext(Event.of(logEntry).id("progress")));
 
                 // consume in realtime
-                Runnable receive = this.logQueue.receive(current -> {
-                    if (current.getExecutionId() != null && current.getExecutionId().equals(executionId)) {
-                        if (levels.contains(current.getLevel().name())) {
-                            emitter.onNext(Event.of(current).id("progress"));
-                        }
+                Runnable receive = this.executionFollowService.followLogs(executionId, current -> {
+                    if (levels.contains(current.getLevel().name())) {
+                        emitter.onNext(Event.of(current).id("progress"));
                     }
                 });
 
                 cancel.set(receive);
-            }, BackpressureStrategy.BUFFER)
+            }, BackpressureStrategy.MISSING)
+            // a slow follower loose the oldest logs instead of buffering them without limit
+            .onBackpressureBuffer(
+                executionFollowService.getBufferSize(),
+                () -> log.debug("Log follow buffer full for execution '{}', dropping the oldest logs", executionId),
+                BackpressureOverflowStrategy.DROP_OLDEST
+            )
             .doOnCancel(() -> {
                 if (cancel.get() != null) {
                     cancel.get().run();
@@ -0,0 +1,127 @@
+package io.kestra.webserver.services;
+
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.LogEntry;
+import io.kestra.core.queues.QueueFactoryInterface;
+import io.kestra.core.queues.QueueInterface;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Consume the execution and log queues only once per webserver and dispatch the messages to the followers of their
+ * execution, instead of one queue subscription per follower.
+ */
+@Singleton
+@Slf4j
+public class ExecutionFollowService {
+    private final FanOut<Execution> executions;
+
+    private final FanOut<LogEntry> logs;
+
+    @Getter
+    private final int bufferSize;
+
+    @Inject
+    public ExecutionFollowService(
+        @Named(QueueFactoryInterface.EXECUTION_NAMED) QueueInterface<Execution> executionQueue,
+        @Named(QueueFactoryInterface.WORKERTASKLOG_NAMED) QueueInterface<LogEntry> logQueue,
+        @Value("${kestra.webserver.follow.buffer-size:1000}") int bufferSize
+    ) {
+        this.executions = new FanOut<>(executionQueue, Execution::getId);
+        this.logs = new FanOut<>(logQueue, LogEntry::getExecutionId);
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * @return a runnable that stop the follow
+     */
+    public Runnable followExecution(String executionId, Consumer<Execution> consumer) {
+        return this.executions.subscribe(executionId, consumer);
+    }
+
+    /**
+     * @return a runnable that stop the follow
+     */
+    public Runnable followLogs(String executionId, Consumer<LogEntry> consumer) {
+        return this.logs.subscribe(executionId, consumer);
+    }
+
+    private static class FanOut<T> {
+        private final QueueInterface<T> queue;
+
+        private final Function<T, String> executionId;
+
+        private final Map<String, Set<Consumer<T>>> subscribers = new ConcurrentHashMap<>();
+
+        private Runnable cancel;
+
+        private FanOut(QueueInterface<T> queue, Function<T, String> executionId) {
+            this.queue = queue;
+            this.executionId = executionId;
+        }
+
+        private synchronized Runnable subscribe(String executionId, Consumer<T> consumer) {
+            if (this.cancel == null) {
+                this.cancel = this.queue.receive(this::dispatch);
+            }
+
+            // the followers of an execution are called in their subscription order
+            this.subscribers
+                .computeIfAbsent(executionId, s -> new CopyOnWriteArraySet<>())
+                .add(consumer);
+
+            return () -> this.unsubscribe(executionId, consumer);
+        }
+
+        private synchronized void unsubscribe(String executionId, Consumer<T> consumer) {
+            Set<Consumer<T>> consumers = this.subscribers.get(executionId);
+
+            if (consumers != null) {
+                consumers.remove(consumer);
+
+                if (consumers.isEmpty()) {
+                    this.subscribers.remove(executionId);
+                }
+            }
+
+            // no more followers, we stop to consume the queue
+            if (this.subscribers.isEmpty() && this.cancel != null) {
+                this.cancel.run();
+                this.cancel = null;
+            }
+        }
+
+        private void dispatch(T message) {
+            String id = this.executionId.apply(message);
+
+            if (id == null) {
+                return;
+            }
+
+            Set<Consumer<T>> consumers = this.subscribers.get(id);
+
+            if (consumers == null) {
+                return;
+            }
+
+            consumers.forEach(consumer -> {
+                try {
+                    consumer.accept(message);
+                } catch (Exception e) {
+                    log.warn("Unable to send message to a follower of execution '{}'", id, e);
+                }
+            });
+        }
+    }
+}
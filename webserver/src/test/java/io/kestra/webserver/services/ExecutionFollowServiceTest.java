@@ -0,0 +1,257 @@
+package io.kestra.webserver.services;
+
+import io.kestra.core.contexts.KestraClassLoader;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.LogEntry;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.queues.QueueFactoryInterface;
+import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.repositories.ExecutionRepositoryInterface;
+import io.kestra.core.repositories.FlowRepositoryInterface;
+import io.kestra.core.tasks.debugs.Return;
+import io.kestra.core.utils.Await;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.runner.memory.MemoryQueue;
+import io.kestra.webserver.controllers.ExecutionController;
+import io.kestra.webserver.controllers.LogController;
+import io.micronaut.context.annotation.Property;
+import io.micronaut.http.sse.Event;
+import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import io.reactivex.subscribers.TestSubscriber;
+import jakarta.inject.Inject;
+import jakarta.inject.Named;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@MicronautTest
+@Property(name = "kestra.webserver.follow.buffer-size", value = "5")
+class ExecutionFollowServiceTest {
+    @Inject
+    private ExecutionFollowService executionFollowService;
+
+    @Inject
+    private ExecutionController executionController;
+
+    @Inject
+    private LogController logController;
+
+    @Inject
+    private FlowRepositoryInterface flowRepository;
+
+    @Inject
+    private ExecutionRepositoryInterface executionRepository;
+
+    @Inject
+    @Named(QueueFactoryInterface.EXECUTION_NAMED)
+    private QueueInterface<Execution> executionQueue;
+
+    @Inject
+    @Named(QueueFactoryInterface.WORKERTASKLOG_NAMED)
+    private QueueInterface<LogEntry> logQueue;
+
+    @BeforeEach
+    void init() {
+        if (!KestraClassLoader.isInit()) {
+            KestraClassLoader.create(ExecutionFollowServiceTest.class.getClassLoader());
+        }
+    }
+
+    private static Execution execution(String id) {
+        return Execution.builder()
+            .id(id)
+            .namespace("io.kestra.unittest")
+            .flowId("follow")
+            .flowRevision(1)
+            .state(new State())
+            .build();
+    }
+
+    private static LogEntry log(String executionId, String message) {
+        return LogEntry.builder()
+            .namespace("io.kestra.unittest")
+            .flowId("follow")
+            .executionId(executionId)
+            .timestamp(Instant.now())
+            .level(Level.INFO)
+            .message(message)
+            .build();
+    }
+
+    private int subscribers(QueueInterface<?> queue) {
+        return ((MemoryQueue<?>) queue).getSubscribersCount();
+    }
+
+    private static void await(List<?> received, int size) throws TimeoutException {
+        Await.until(() -> received.size() >= size, Duration.ofMillis(10), Duration.ofSeconds(10));
+    }
+
+    @Test
+    void multipleFollowers() throws TimeoutException {
+        int before = subscribers(executionQueue);
+        String first = IdUtils.create();
+        String second = IdUtils.create();
+
+        List<Execution> firstFollower = new CopyOnWriteArrayList<>();
+        List<Execution> secondFollower = new CopyOnWriteArrayList<>();
+        List<Execution> otherFollower = new CopyOnWriteArrayList<>();
+
+        Runnable cancelFirst = executionFollowService.followExecution(first, firstFollower::add);
+        Runnable cancelSecond = executionFollowService.followExecution(first, secondFollower::add);
+        Runnable cancelOther = executionFollowService.followExecution(second, otherFollower::add);
+
+        // a single queue consumer for all the followers
+        assertThat(subscribers(executionQueue), is(before + 1));
+
+        executionQueue.emit(execution(first));
+        executionQueue.emit(execution(second));
+
+        await(firstFollower, 1);
+        await(secondFollower, 1);
+        await(otherFollower, 1);
+
+        assertThat(firstFollower.size(), is(1));
+        assertThat(firstFollower.get(0).getId(), is(first));
+        assertThat(secondFollower.size(), is(1));
+        assertThat(secondFollower.get(0).getId(), is(first));
+        assertThat(otherFollower.size(), is(1));
+        assertThat(otherFollower.get(0).getId(), is(second));
+
+        cancelFirst.run();
+        cancelSecond.run();
+        cancelOther.run();
+
+        assertThat(subscribers(executionQueue), is(before));
+    }
+
+    @Test
+    void unfollow() throws TimeoutException {
+        int before = subscribers(executionQueue);
+        String id = IdUtils.create();
+
+        List<Execution> leaving = new CopyOnWriteArrayList<>();
+        List<Execution> staying = new CopyOnWriteArrayList<>();
+
+        Runnable cancelLeaving = executionFollowService.followExecution(id, leaving::add);
+        Runnable cancelStaying = executionFollowService.followExecution(id, staying::add);
+
+        // the queue is still consumed for the remaining follower
+        cancelLeaving.run();
+        assertThat(subscribers(executionQueue), is(before + 1));
+
+        executionQueue.emit(execution(id));
+        await(staying, 1);
+        assertThat(leaving, empty());
+
+        // the last follower leaving stop the queue consumer
+        cancelStaying.run();
+        assertThat(subscribers(executionQueue), is(before));
+
+        // and a new follower start it again
+        List<Execution> again = new CopyOnWriteArrayList<>();
+        Runnable cancelAgain = executionFollowService.followExecution(id, again::add);
+        assertThat(subscribers(executionQueue), is(before + 1));
+
+        executionQueue.emit(execution(id));
+        await(again, 1);
+        assertThat(staying.size(), is(1));
+
+        cancelAgain.run();
+        assertThat(subscribers(executionQueue), is(before));
+    }
+
+    @Test
+    void slowExecutionFollowerKeepLatest() throws Exception {
+        int before = subscribers(executionQueue);
+
+        Flow flow = flowRepository.create(Flow.builder()
+            .id(IdUtils.create())
+            .namespace("io.kestra.unittest")
+            .tasks(Collections.singletonList(Return.builder()
+                .id("test")
+                .type(Return.class.getName())
+                .format("test")
+                .build()))
+            .build()
+        );
+
+        Execution execution = Execution.builder()
+            .id(IdUtils.create())
+            .namespace(flow.getNamespace())
+            .flowId(flow.getId())
+            .flowRevision(flow.getRevision())
+            .state(new State())
+            .build();
+        executionRepository.save(execution);
+
+        // only the execution from the repository is requested
+        TestSubscriber<Event<Execution>> subscriber = executionController.follow(execution.getId()).test(1);
+        assertThat(subscriber.values().size(), is(1));
+
+        // followers are called in subscription order, once this one has received an execution the controller has too
+        List<Execution> dispatched = new CopyOnWriteArrayList<>();
+        Runnable cancel = executionFollowService.followExecution(execution.getId(), dispatched::add);
+
+        for (int i = 0; i < 3; i++) {
+            executionQueue.emit(execution.toBuilder().inputs(Map.of("index", i)).build());
+            await(dispatched, i + 1);
+        }
+
+        subscriber.request(10);
+
+        // the executions received while the follower was slow are replaced by the latest one
+        await(subscriber.values(), 2);
+        assertThat(subscriber.values().size(), is(2));
+        assertThat(subscriber.values().get(1).getData().getInputs().get("index"), is(2));
+
+        cancel.run();
+        subscriber.cancel();
+
+        assertThat(subscribers(executionQueue), is(before));
+    }
+
+    @Test
+    void slowLogFollowerDropOldest() throws Exception {
+        int before = subscribers(logQueue);
+        String id = IdUtils.create();
+
+        // nothing requested, the logs are buffered
+        TestSubscriber<Event<LogEntry>> subscriber = logController.follow(id, null).test(0);
+
+        // followers are called in subscription order, once this one has received a log the controller has too
+        List<LogEntry> dispatched = new CopyOnWriteArrayList<>();
+        Runnable cancel = executionFollowService.followLogs(id, dispatched::add);
+
+        for (int i = 0; i < 8; i++) {
+            logQueue.emit(log(id, "log-" + i));
+            await(dispatched, i + 1);
+        }
+
+        subscriber.request(100);
+
+        // the buffer is bounded, the oldest logs are dropped
+        await(subscriber.values(), executionFollowService.getBufferSize());
+        assertThat(
+            subscriber.values().stream().map(event -> event.getData().getMessage()).collect(Collectors.toList()),
+            contains("log-3", "log-4", "log-5", "log-6", "log-7")
+        );
+
+        cancel.run();
+        subscriber.cancel();
+
+        assertThat(subscribers(logQueue), is(before));
+    }
+}